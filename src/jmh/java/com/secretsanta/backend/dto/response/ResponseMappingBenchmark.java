@@ -0,0 +1,71 @@
+package com.secretsanta.backend.dto.response;
+
+import com.secretsanta.backend.model.Admin;
+import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping benchmarks for the event detail and reveal responses
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    @Param({"3", "100", "10000", "1000000"})
+    private int participantCount;
+
+    private Event event;
+    private Assignment assignment;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        event = Event.builder()
+                .id(1L)
+                .name("Office party")
+                .description("Gift exchange after the end-of-year dinner")
+                .drawDate(LocalDate.of(2026, 12, 20))
+                .budget(new BigDecimal("25.00"))
+                .admin(Admin.builder().id(1L).name("Admin").email("admin@example.com").build())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        for (int i = 0; i < participantCount; i++) {
+            event.addParticipant(Participant.builder()
+                    .id((long) i + 1)
+                    .name("Participant " + i)
+                    .email("participant" + i + "@example.com")
+                    .accessCode(UUID.randomUUID())
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+
+        assignment = Assignment.builder()
+                .event(event)
+                .giver(event.getParticipants().get(0))
+                .receiver(event.getParticipants().get(participantCount - 1))
+                .build();
+    }
+
+    @Benchmark
+    public EventDetailResponse eventDetailResponse() {
+        return EventDetailResponse.from(event);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public AssignmentResponse assignmentResponse() {
+        return AssignmentResponse.from(assignment);
+    }
+}
@@ -0,0 +1,66 @@
+package com.secretsanta.backend.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT verification cost
+ * legacyDoubleParse reproduces the old filter: a fresh key and parser to validate
+ * the token and again to read its subject. singleParse is verifyToken's first sight
+ * of a token, one parse with a prebuilt parser, and cachedVerify is a repeat request
+ * with an already verified token.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret";
+
+    private JwtTokenProvider tokenProvider;
+    private JwtParser parser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "cacheMaxSize", 10_000L);
+        tokenProvider.init();
+        parser = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build();
+
+        token = tokenProvider.generateToken(1L, "admin@example.com");
+    }
+
+    @Benchmark
+    public String legacyDoubleParse() {
+        Key validationKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Jwts.parserBuilder().setSigningKey(validationKey).build().parseClaimsJws(token);
+
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Claims claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return parser.parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public Optional<AdminPrincipal> cachedVerify() {
+        return tokenProvider.verifyToken(token);
+    }
+}
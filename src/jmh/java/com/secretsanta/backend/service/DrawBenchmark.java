@@ -0,0 +1,107 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.service.draw.CircularDrawStrategy;
+import com.secretsanta.backend.service.draw.ConstrainedDrawStrategy;
+import com.secretsanta.backend.service.draw.DrawConstraints;
+import com.secretsanta.backend.service.draw.DrawStrategy;
+import com.secretsanta.backend.service.draw.RandomDrawStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw algorithm benchmarks
+ * Throughput plus sampled latency percentiles; run with -prof gc for allocation rate
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DrawBenchmark {
+
+    // Each participant is excluded from this many others (couples, managers)
+    private static final int RULES_PER_PARTICIPANT = 2;
+
+    @Param({"3", "100", "10000", "1000000"})
+    private int participantCount;
+
+    private DrawService drawService;
+    private final DrawStrategy randomStrategy = new RandomDrawStrategy();
+    private final DrawStrategy circularStrategy = new CircularDrawStrategy();
+    private final DrawStrategy constrainedStrategy = new ConstrainedDrawStrategy();
+    private Event event;
+    private List<Participant> participants;
+    private DrawConstraints unconstrained;
+    private DrawConstraints constrained;
+    private SplittableRandom random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        drawService = new DrawService();
+        event = Event.builder().id(1L).name("Benchmark event").build();
+
+        participants = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            participants.add(Participant.builder()
+                    .id((long) i + 1)
+                    .name("Participant " + i)
+                    .email("participant" + i + "@example.com")
+                    .event(event)
+                    .build());
+        }
+
+        unconstrained = DrawConstraints.builder(participantCount).build();
+
+        random = new SplittableRandom(42);
+        DrawConstraints.Builder builder = DrawConstraints.builder(participantCount);
+        if (participantCount > RULES_PER_PARTICIPANT * 2 + 1) {
+            for (int giver = 0; giver < participantCount; giver++) {
+                for (int r = 0; r < RULES_PER_PARTICIPANT; r++) {
+                    builder.forbid(giver, random.nextInt(participantCount));
+                }
+            }
+        }
+        constrained = builder.build();
+    }
+
+    @Benchmark
+    public List<Assignment> generateAssignments() {
+        int[] receivers = randomStrategy.draw(unconstrained, random);
+        return drawService.buildAssignments(event, participants, receivers, 1);
+    }
+
+    @Benchmark
+    public List<Assignment> generateAssignmentsCircular() {
+        int[] receivers = circularStrategy.draw(unconstrained, random);
+        return drawService.buildAssignments(event, participants, receivers, 1);
+    }
+
+    @Benchmark
+    public List<Assignment> generateAssignmentsConstrained() {
+        int[] receivers = constrainedStrategy.draw(constrained, random);
+        return drawService.buildAssignments(event, participants, receivers, 1);
+    }
+
+    @Benchmark
+    public int[] randomStrategy() {
+        return randomStrategy.draw(unconstrained, random);
+    }
+
+    @Benchmark
+    public int[] circularStrategy() {
+        return circularStrategy.draw(unconstrained, random);
+    }
+
+    @Benchmark
+    public int[] constrainedStrategy() {
+        return constrainedStrategy.draw(constrained, random);
+    }
+}
@@ -0,0 +1,154 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.SecretSantaApplication;
+import com.secretsanta.backend.model.Admin;
+import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.AdminRepository;
+import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.EventRepository;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.service.draw.DrawConstraints;
+import com.secretsanta.backend.service.draw.DrawStrategy;
+import com.secretsanta.backend.service.draw.RandomDrawStrategy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Persistence cost of a large draw against a real PostgreSQL database
+ * Reports JDBC statements prepared per draw next to the wall-clock time,
+ * so batched inserts show up as a few hundred statements instead of one per row
+ *
+ * The forked JVM inherits the environment, so point it at a database with
+ * SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME and SPRING_DATASOURCE_PASSWORD
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DrawPersistenceBenchmark {
+
+    @Param({"10000"})
+    private int participantCount;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate transactionTemplate;
+    private EntityManager entityManager;
+    private AssignmentRepository assignmentRepository;
+    private Statistics statistics;
+    private DrawService drawService;
+    private Event event;
+    private List<Participant> participants;
+    private DrawConstraints constraints;
+    private final DrawStrategy drawStrategy = new RandomDrawStrategy();
+    private final SplittableRandom random = new SplittableRandom();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class StatementCounters {
+        public long preparedStatements;
+        public long insertedRows;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SecretSantaApplication.class)
+                .properties(Map.<String, Object>of(
+                        "server.port", "0",
+                        "spring.jpa.hibernate.ddl-auto", "update",
+                        "spring.jpa.show-sql", "false",
+                        "spring.jpa.properties.hibernate.jdbc.batch_size", "100",
+                        "spring.jpa.properties.hibernate.order_inserts", "true",
+                        "spring.jpa.properties.hibernate.order_updates", "true",
+                        "spring.jpa.properties.hibernate.generate_statistics", "true",
+                        "jwt.secret", "benchmark-secret-benchmark-secret-benchmark-secret",
+                        "jwt.expiration", "3600000"
+                ))
+                .run();
+
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        entityManager = context.getBean(EntityManager.class);
+        assignmentRepository = context.getBean(AssignmentRepository.class);
+        statistics = context.getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        drawService = new DrawService();
+
+        AdminRepository adminRepository = context.getBean(AdminRepository.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        ParticipantRepository participantRepository = context.getBean(ParticipantRepository.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Admin admin = adminRepository.save(Admin.builder()
+                    .name("Benchmark admin")
+                    .email("benchmark-" + UUID.randomUUID() + "@example.com")
+                    .password("not-used")
+                    .build());
+            event = eventRepository.save(Event.builder()
+                    .name("Persistence benchmark")
+                    .drawDate(LocalDate.now().plusDays(30))
+                    .admin(admin)
+                    .build());
+
+            List<Participant> created = new ArrayList<>(participantCount);
+            for (int i = 0; i < participantCount; i++) {
+                created.add(Participant.builder()
+                        .name("Participant " + i)
+                        .email("participant" + i + "@example.com")
+                        .event(event)
+                        .build());
+            }
+            participants = participantRepository.saveAll(created);
+        });
+
+        constraints = DrawConstraints.builder(participantCount).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearPreviousDraw() {
+        transactionTemplate.executeWithoutResult(status ->
+                assignmentRepository.deleteByEventId(event.getId())
+        );
+    }
+
+    @Benchmark
+    public int persistDraw(StatementCounters counters) {
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long insertsBefore = statistics.getEntityInsertCount();
+
+        Integer saved = transactionTemplate.execute(status -> {
+            int[] receivers = drawStrategy.draw(constraints, random);
+            List<Assignment> assignments = drawService.buildAssignments(event, participants, receivers, 1);
+            assignmentRepository.saveAll(assignments);
+            entityManager.flush();
+            return assignments.size();
+        });
+
+        counters.preparedStatements += statistics.getPrepareStatementCount() - statementsBefore;
+        counters.insertedRows += statistics.getEntityInsertCount() - insertsBefore;
+        return saved;
+    }
+}
@@ -0,0 +1,51 @@
+package com.secretsanta.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class DrawExecutorConfig {
+
+    @Value("${draw.async.pool-size:2}")
+    private int poolSize;
+
+    @Value("${draw.async.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${draw.batch.parallelism:0}")
+    private int batchParallelism;
+
+    /**
+     * Executor for asynchronous draw jobs
+     * Fixed size with a bounded queue, so large draws never occupy request threads
+     * and a burst of submissions is rejected instead of piling up
+     */
+    @Bean
+    public ThreadPoolTaskExecutor drawExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("draw-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Fork/join pool computing the draws of a batch in parallel
+     * Kept apart from the common pool so batches do not starve parallel streams elsewhere;
+     * parallelism 0 means one worker per available processor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool drawComputePool() {
+        int parallelism = batchParallelism > 0
+                ? batchParallelism
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+}
@@ -0,0 +1,49 @@
+package com.secretsanta.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class PasswordHashingConfig {
+
+    @Value("${auth.password.hashing.pool-size:0}")
+    private int poolSize;
+
+    @Value("${auth.password.hashing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${auth.password.store.pool-size:2}")
+    private int storePoolSize;
+
+    /**
+     * Executor running BCrypt for logins and registrations
+     * One worker per processor by default, since hashing is pure CPU; a full queue
+     * rejects further logins instead of tying up request threads
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        return executor;
+    }
+
+    /**
+     * Executor saving admins and rehashed passwords once hashing is done
+     * Keeps JDBC off the hashing workers; each task follows a finished hash, so the
+     * bounded hashing queue already limits how much can wait here
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordStoreExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(storePoolSize);
+        executor.setMaxPoolSize(storePoolSize);
+        executor.setThreadNamePrefix("password-store-");
+        return executor;
+    }
+}
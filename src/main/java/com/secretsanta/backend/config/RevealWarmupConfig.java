@@ -0,0 +1,30 @@
+package com.secretsanta.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class RevealWarmupConfig {
+
+    @Value("${reveal.warmup.pool-size:1}")
+    private int poolSize;
+
+    @Value("${reveal.warmup.queue-capacity:20}")
+    private int queueCapacity;
+
+    /**
+     * Executor loading reveals into the cache after an event is locked
+     * Small and bounded, so warm-ups never compete with requests for database connections
+     */
+    @Bean
+    public ThreadPoolTaskExecutor revealWarmupExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("reveal-warmup-");
+        return executor;
+    }
+}
@@ -0,0 +1,12 @@
+package com.secretsanta.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables background jobs annotated with @Scheduled
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
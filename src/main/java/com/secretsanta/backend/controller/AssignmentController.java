@@ -1,10 +1,11 @@
 package com.secretsanta.backend.controller;
 
-import com.secretsanta.backend.dto.response.AssignmentResponse;
 import com.secretsanta.backend.service.AssignmentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/assignments")
@@ -16,12 +17,24 @@ public class AssignmentController {
     /**
      * GET /api/assignments/{accessCode}
      * View assignment by access code (public endpoint)
+     * The body is an AssignmentResponse serialized at draw time and written out unchanged
+     * Supports If-None-Match; the ETag changes whenever the event or draw changes
      */
     @GetMapping("/{accessCode}")
-    public ResponseEntity<AssignmentResponse> viewAssignment(
-            @PathVariable String accessCode
+    public ResponseEntity<byte[]> viewAssignment(
+            @PathVariable String accessCode,
+            WebRequest webRequest
     ) {
-        AssignmentResponse response = assignmentService.viewAssignment(accessCode);
-        return ResponseEntity.ok(response);
+        // Checked before loading the body, so the body is never older than the ETag
+        String etag = "\"reveal-" + assignmentService.getRevealRevision(accessCode) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        byte[] response = assignmentService.viewAssignment(accessCode);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(response);
     }
 }
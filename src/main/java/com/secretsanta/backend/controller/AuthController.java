@@ -5,12 +5,15 @@ import com.secretsanta.backend.dto.request.RegisterRequest;
 import com.secretsanta.backend.dto.response.AdminResponse;
 import com.secretsanta.backend.dto.response.LoginResponse;
 import com.secretsanta.backend.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -23,9 +26,9 @@ public class AuthController {
      * Register a new admin account
      */
     @PostMapping("/register")
-    public ResponseEntity<AdminResponse> register(@Valid @RequestBody RegisterRequest request) {
-        AdminResponse response = authService.register(request);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<AdminResponse>> register(@Valid @RequestBody RegisterRequest request) {
+        return authService.register(request)
+                .thenApply(response -> new ResponseEntity<>(response, HttpStatus.CREATED));
     }
 
     /**
@@ -33,8 +36,10 @@ public class AuthController {
      * Authenticate and receive JWT token
      */
     @PostMapping("/login")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<LoginResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        return authService.login(request, httpRequest.getRemoteAddr()).thenApply(ResponseEntity::ok);
     }
 }
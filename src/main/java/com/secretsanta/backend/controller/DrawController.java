@@ -1,13 +1,21 @@
 package com.secretsanta.backend.controller;
 
+import com.secretsanta.backend.dto.request.BatchDrawRequest;
 import com.secretsanta.backend.dto.request.DrawRequest;
+import com.secretsanta.backend.dto.response.BatchDrawResponse;
+import com.secretsanta.backend.dto.response.DrawJobResponse;
 import com.secretsanta.backend.dto.response.DrawResponse;
+import com.secretsanta.backend.service.BatchDrawService;
+import com.secretsanta.backend.service.DrawJobService;
 import com.secretsanta.backend.service.DrawService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/events")
 public class DrawController {
@@ -15,13 +23,21 @@ public class DrawController {
     @Autowired
     private DrawService drawService;
 
+    @Autowired
+    private DrawJobService drawJobService;
+
+    @Autowired
+    private BatchDrawService batchDrawService;
+
     /**
      * POST /api/events/{eventId}/draw
      * Perform the Secret Santa draw
+     * With async=true the draw runs in the background and 202 with a job is returned
      */
     @PostMapping("/{eventId}/draw")
-    public ResponseEntity<DrawResponse> performDraw(
+    public ResponseEntity<?> performDraw(
             @PathVariable Long eventId,
+            @RequestParam(defaultValue = "false") boolean async,
             @RequestBody DrawRequest request
     ) {
         // Set default if request is null
@@ -29,7 +45,51 @@ public class DrawController {
             request = DrawRequest.builder().allowRedraw(false).build();
         }
 
+        if (async) {
+            DrawJobResponse job = drawJobService.submitDraw(eventId, request);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/events/" + eventId + "/draw/jobs/" + job.getJobId()))
+                    .body(job);
+        }
+
         DrawResponse response = drawService.performDraw(eventId, request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * GET /api/events/{eventId}/draw/jobs/{jobId}
+     * Get progress and result of an asynchronous draw
+     */
+    @GetMapping("/{eventId}/draw/jobs/{jobId}")
+    public ResponseEntity<DrawJobResponse> getDrawJob(
+            @PathVariable Long eventId,
+            @PathVariable UUID jobId
+    ) {
+        DrawJobResponse response = drawJobService.getJob(eventId, jobId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/events/{eventId}/draw/rollback
+     * Restore the previous draw after a redraw
+     */
+    @PostMapping("/{eventId}/draw/rollback")
+    public ResponseEntity<DrawResponse> rollbackDraw(@PathVariable Long eventId) {
+        DrawResponse response = drawService.rollbackDraw(eventId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/events/draw/batch
+     * Perform the draw for several events at once
+     * Returns one result per event; events that cannot be drawn do not fail the others
+     */
+    @PostMapping("/draw/batch")
+    public ResponseEntity<BatchDrawResponse> performBatchDraw(
+            @Valid @RequestBody BatchDrawRequest request
+    ) {
+        BatchDrawResponse response = batchDrawService.performBatchDraw(request);
+        return ResponseEntity.ok(response);
+    }
 }
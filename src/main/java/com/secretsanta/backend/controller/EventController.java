@@ -3,16 +3,19 @@ package com.secretsanta.backend.controller;
 import com.secretsanta.backend.dto.request.CreateEventRequest;
 import com.secretsanta.backend.dto.request.LockEventRequest;
 import com.secretsanta.backend.dto.request.UpdateEventRequest;
+import com.secretsanta.backend.dto.response.CursorPageResponse;
 import com.secretsanta.backend.dto.response.EventDetailResponse;
 import com.secretsanta.backend.dto.response.EventResponse;
+import com.secretsanta.backend.dto.response.EventViewsResponse;
 import com.secretsanta.backend.service.EventService;
+import com.secretsanta.backend.service.RevealViewService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -22,13 +25,20 @@ public class EventController {
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private RevealViewService revealViewService;
+
     /**
-     * GET /api/events
-     * Get all events for authenticated admin
+     * GET /api/events?cursor=&limit=
+     * Get the authenticated admin's events, newest first, one page at a time
+     * Pass nextCursor from the previous page to continue
      */
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
-        List<EventResponse> events = eventService.getAllEvents();
+    public ResponseEntity<CursorPageResponse<EventResponse>> getAllEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        CursorPageResponse<EventResponse> events = eventService.getAllEvents(cursor, limit);
         return ResponseEntity.ok(events);
     }
 
@@ -45,13 +55,26 @@ public class EventController {
     }
 
     /**
-     * GET /api/events/{id}
-     * Get event details with participants
+     * GET /api/events/{id}?participantLimit=
+     * Get event details with the first page of participants
+     * Supports If-None-Match; the ETag changes whenever the event or its participants change
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EventDetailResponse> getEventById(@PathVariable Long id) {
-        EventDetailResponse response = eventService.getEventById(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<EventDetailResponse> getEventById(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer participantLimit,
+            WebRequest webRequest
+    ) {
+        // Checked before loading the body, so the body is never older than the ETag
+        String etag = "\"event-" + eventService.getEventRevision(id) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        EventDetailResponse response = eventService.getEventById(id, participantLimit);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(response);
     }
 
     /**
@@ -89,4 +112,18 @@ public class EventController {
         Map<String, Object> response = eventService.lockEvent(id, request);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * GET /api/events/{id}/views?cursor=&limit=
+     * How many participants have opened their assignment, with one page of who and how often
+     */
+    @GetMapping("/{id}/views")
+    public ResponseEntity<EventViewsResponse> getEventViews(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        EventViewsResponse response = revealViewService.getEventViews(id, cursor, limit);
+        return ResponseEntity.ok(response);
+    }
 }
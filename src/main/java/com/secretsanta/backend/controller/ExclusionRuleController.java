@@ -0,0 +1,55 @@
+package com.secretsanta.backend.controller;
+
+import com.secretsanta.backend.dto.request.AddExclusionRuleRequest;
+import com.secretsanta.backend.dto.response.ExclusionRuleResponse;
+import com.secretsanta.backend.service.ExclusionRuleService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+public class ExclusionRuleController {
+
+    @Autowired
+    private ExclusionRuleService exclusionRuleService;
+
+    /**
+     * POST /api/events/{eventId}/exclusions
+     * Add a "may not draw" rule between two participants
+     */
+    @PostMapping("/events/{eventId}/exclusions")
+    public ResponseEntity<ExclusionRuleResponse> addRule(
+            @PathVariable Long eventId,
+            @Valid @RequestBody AddExclusionRuleRequest request
+    ) {
+        ExclusionRuleResponse response = exclusionRuleService.addRule(eventId, request);
+        return new ResponseEntity<>(response, HttpStatus.CREATED);
+    }
+
+    /**
+     * GET /api/events/{eventId}/exclusions
+     * Get all exclusion rules for an event
+     */
+    @GetMapping("/events/{eventId}/exclusions")
+    public ResponseEntity<List<ExclusionRuleResponse>> getRules(
+            @PathVariable Long eventId
+    ) {
+        List<ExclusionRuleResponse> rules = exclusionRuleService.getRules(eventId);
+        return ResponseEntity.ok(rules);
+    }
+
+    /**
+     * DELETE /api/exclusions/{id}
+     * Remove an exclusion rule
+     */
+    @DeleteMapping("/exclusions/{id}")
+    public ResponseEntity<Void> removeRule(@PathVariable Long id) {
+        exclusionRuleService.removeRule(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,15 +1,19 @@
 package com.secretsanta.backend.controller;
 
 import com.secretsanta.backend.dto.request.AddParticipantRequest;
+import com.secretsanta.backend.dto.response.CursorPageResponse;
 import com.secretsanta.backend.dto.response.ParticipantResponse;
+import com.secretsanta.backend.service.ParticipantExportService;
 import com.secretsanta.backend.service.ParticipantService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api")
@@ -18,6 +22,9 @@ public class ParticipantController {
     @Autowired
     private ParticipantService participantService;
 
+    @Autowired
+    private ParticipantExportService participantExportService;
+
     /**
      * POST /api/events/{eventId}/participants
      * Add a participant to an event
@@ -32,17 +39,42 @@ public class ParticipantController {
     }
 
     /**
-     * GET /api/events/{eventId}/participants
-     * Get all participants for an event
+     * GET /api/events/{eventId}/participants?cursor=&limit=
+     * Get an event's participants, oldest first, one page at a time
+     * Pass nextCursor from the previous page to continue
      */
     @GetMapping("/events/{eventId}/participants")
-    public ResponseEntity<List<ParticipantResponse>> getParticipants(
-            @PathVariable Long eventId
+    public ResponseEntity<CursorPageResponse<ParticipantResponse>> getParticipants(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<ParticipantResponse> participants = participantService.getParticipants(eventId);
+        CursorPageResponse<ParticipantResponse> participants =
+                participantService.getParticipants(eventId, cursor, limit);
         return ResponseEntity.ok(participants);
     }
 
+    /**
+     * GET /api/events/{eventId}/participants/export?format=csv|ndjson
+     * Download every participant with their access code
+     * Rows are streamed from the database to the response as they are read
+     */
+    @GetMapping("/events/{eventId}/participants/export")
+    public ResponseEntity<StreamingResponseBody> exportParticipants(
+            @PathVariable Long eventId,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        ParticipantExportService.Format exportFormat = ParticipantExportService.Format.parse(format);
+        StreamingResponseBody body = participantExportService.exportParticipants(eventId, exportFormat);
+
+        String filename = "event-" + eventId + "-participants." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * DELETE /api/participants/{id}
      * Remove a participant from an event
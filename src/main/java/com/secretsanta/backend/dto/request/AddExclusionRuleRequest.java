@@ -0,0 +1,23 @@
+package com.secretsanta.backend.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AddExclusionRuleRequest {
+
+    @NotNull(message = "Giver ID is required")
+    private Long giverId;
+
+    @NotNull(message = "Receiver ID is required")
+    private Long receiverId;
+
+    @Builder.Default
+    private Boolean mutual = true;
+}
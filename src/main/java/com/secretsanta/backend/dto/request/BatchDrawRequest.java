@@ -0,0 +1,33 @@
+package com.secretsanta.backend.dto.request;
+
+import com.secretsanta.backend.model.DrawStorage;
+import com.secretsanta.backend.model.DrawStrategyType;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDrawRequest {
+
+    @NotEmpty(message = "At least one event ID is required")
+    @Size(max = 100, message = "At most 100 events can be drawn at once")
+    private List<@NotNull(message = "Event ID must not be null") Long> eventIds;
+
+    @Builder.Default
+    private Boolean allowRedraw = false;
+
+    @Builder.Default
+    private DrawStorage storage = DrawStorage.ROWS;
+
+    // Draw algorithm; null picks the cheapest one that honours the exclusion rules
+    private DrawStrategyType strategy;
+}
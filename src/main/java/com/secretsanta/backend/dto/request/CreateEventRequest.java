@@ -29,4 +29,6 @@ public class CreateEventRequest {
     @Positive(message = "Budget must be a positive number")
     @Digits(integer = 10, fraction = 2, message = "Budget must have maximum 10 digits and 2 decimal places")
     private BigDecimal budget;
+
+    private Boolean preventReciprocal;
 }
@@ -1,5 +1,7 @@
 package com.secretsanta.backend.dto.request;
 
+import com.secretsanta.backend.model.DrawStorage;
+import com.secretsanta.backend.model.DrawStrategyType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -13,4 +15,11 @@ public class DrawRequest {
 
     @Builder.Default
     private Boolean allowRedraw = false;
+
+    // PERMUTATION stores the draw compactly instead of one row per participant
+    @Builder.Default
+    private DrawStorage storage = DrawStorage.ROWS;
+
+    // Draw algorithm; null picks the cheapest one that honours the exclusion rules
+    private DrawStrategyType strategy;
 }
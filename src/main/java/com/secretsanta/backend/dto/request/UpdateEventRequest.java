@@ -27,4 +27,6 @@ public class UpdateEventRequest {
     @Positive(message = "Budget must be a positive number")
     @Digits(integer = 10, fraction = 2, message = "Budget must have maximum 10 digits and 2 decimal places")
     private BigDecimal budget;
+
+    private Boolean preventReciprocal;
 }
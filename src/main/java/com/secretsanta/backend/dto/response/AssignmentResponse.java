@@ -1,6 +1,9 @@
 package com.secretsanta.backend.dto.response;
 
 import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.projection.AssignmentRevealView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -50,21 +53,46 @@ public class AssignmentResponse {
 
     // Factory method to create from assignment
     public static AssignmentResponse from(Assignment assignment) {
+        return from(assignment.getGiver(), assignment.getReceiver(), assignment.getEvent());
+    }
+
+    // Factory method from the single-query read model
+    public static AssignmentResponse from(AssignmentRevealView view) {
+        return AssignmentResponse.builder()
+                .giver(GiverInfo.builder()
+                        .name(view.giverName())
+                        .build())
+                .recipient(RecipientInfo.builder()
+                        .name(view.receiverName())
+                        .email(view.receiverEmail())
+                        .build())
+                .event(EventInfo.builder()
+                        .name(view.eventName())
+                        .drawDate(view.drawDate())
+                        .budget(view.budget())
+                        .description(view.eventDescription())
+                        .build())
+                .message("You are Secret Santa for " + view.receiverName() + "!")
+                .build();
+    }
+
+    // Factory method for compactly stored draws, which have no assignment entity
+    public static AssignmentResponse from(Participant giver, Participant receiver, Event event) {
         return AssignmentResponse.builder()
                 .giver(GiverInfo.builder()
-                        .name(assignment.getGiver().getName())
+                        .name(giver.getName())
                         .build())
                 .recipient(RecipientInfo.builder()
-                        .name(assignment.getReceiver().getName())
-                        .email(assignment.getReceiver().getEmail())
+                        .name(receiver.getName())
+                        .email(receiver.getEmail())
                         .build())
                 .event(EventInfo.builder()
-                        .name(assignment.getEvent().getName())
-                        .drawDate(assignment.getEvent().getDrawDate())
-                        .budget(assignment.getEvent().getBudget())
-                        .description(assignment.getEvent().getDescription())
+                        .name(event.getName())
+                        .drawDate(event.getDrawDate())
+                        .budget(event.getBudget())
+                        .description(event.getDescription())
                         .build())
-                .message("You are Secret Santa for " + assignment.getReceiver().getName() + "!")
+                .message("You are Secret Santa for " + receiver.getName() + "!")
                 .build();
     }
 }
@@ -0,0 +1,22 @@
+package com.secretsanta.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchDrawResponse {
+
+    private Integer requested;
+    private Integer succeeded;
+    private Integer failed;
+
+    // One result per requested event, in request order
+    private List<DrawResponse> results;
+}
@@ -0,0 +1,21 @@
+package com.secretsanta.backend.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    private List<T> items;
+
+    // Pass as the cursor parameter to get the next page; null on the last page
+    private String nextCursor;
+    private Boolean hasMore;
+}
@@ -0,0 +1,40 @@
+package com.secretsanta.backend.dto.response;
+
+import com.secretsanta.backend.service.DrawJob;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DrawJobResponse {
+
+    private UUID jobId;
+    private Long eventId;
+    private String status;
+    private Integer progress;
+    private DrawResponse result;
+    private String error;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+
+    // Factory method to create from job state
+    public static DrawJobResponse from(DrawJob job) {
+        return DrawJobResponse.builder()
+                .jobId(job.getId())
+                .eventId(job.getEventId())
+                .status(job.getStatus().name())
+                .progress(job.getProgress())
+                .result(job.getResult())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+    }
+}
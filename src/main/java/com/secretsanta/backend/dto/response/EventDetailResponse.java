@@ -1,6 +1,7 @@
 package com.secretsanta.backend.dto.response;
 
 import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +11,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 @Data
@@ -24,12 +26,39 @@ public class EventDetailResponse {
     private LocalDate drawDate;
     private BigDecimal budget;
     private Boolean isLocked;
+    private Boolean preventReciprocal;
     private Long adminId;
     private List<ParticipantResponse> participants;
+    private Integer participantCount;
+
+    // Cursor for GET /api/events/{id}/participants when more participants follow, otherwise null
+    private String participantsNextCursor;
     private LocalDateTime createdAt;
 
     // Factory method to create from entity
     public static EventDetailResponse from(Event event) {
+        return from(event, Participant::hasAssignment);
+    }
+
+    // Factory method with a precomputed check for draw membership
+    public static EventDetailResponse from(Event event, Predicate<Participant> hasAssignment) {
+        List<ParticipantResponse> participants = event.getParticipants().stream()
+                .map(participant -> ParticipantResponse.from(
+                        participant, hasAssignment.test(participant)
+                ))
+                .collect(Collectors.toList());
+        return from(event, CursorPageResponse.<ParticipantResponse>builder()
+                .items(participants)
+                .hasMore(false)
+                .build(), participants.size());
+    }
+
+    // Factory method with the first page of participants only
+    public static EventDetailResponse from(
+            Event event,
+            CursorPageResponse<ParticipantResponse> firstPage,
+            long participantCount
+    ) {
         return EventDetailResponse.builder()
                 .id(event.getId())
                 .name(event.getName())
@@ -37,10 +66,11 @@ public class EventDetailResponse {
                 .drawDate(event.getDrawDate())
                 .budget(event.getBudget())
                 .isLocked(event.getIsLocked())
+                .preventReciprocal(event.isReciprocalPrevented())
                 .adminId(event.getAdmin().getId())
-                .participants(event.getParticipants().stream()
-                        .map(ParticipantResponse::from)
-                        .collect(Collectors.toList()))
+                .participants(firstPage.getItems())
+                .participantCount((int) participantCount)
+                .participantsNextCursor(firstPage.getNextCursor())
                 .createdAt(event.getCreatedAt())
                 .build();
     }
@@ -22,12 +22,13 @@ public class EventResponse {
     private LocalDate drawDate;
     private BigDecimal budget;
     private Boolean isLocked;
+    private Boolean preventReciprocal;
     private Long adminId;
     private Integer participantCount;
     private LocalDateTime createdAt;
 
-    // Factory method to create from entity
-    public static EventResponse from(Event event) {
+    // Factory method to create from entity; the count is passed in so the participants are never loaded
+    public static EventResponse from(Event event, int participantCount) {
         return EventResponse.builder()
                 .id(event.getId())
                 .name(event.getName())
@@ -35,8 +36,9 @@ public class EventResponse {
                 .drawDate(event.getDrawDate())
                 .budget(event.getBudget())
                 .isLocked(event.getIsLocked())
+                .preventReciprocal(event.isReciprocalPrevented())
                 .adminId(event.getAdmin().getId())
-                .participantCount(event.getParticipantCount())
+                .participantCount(participantCount)
                 .createdAt(event.getCreatedAt())
                 .build();
     }
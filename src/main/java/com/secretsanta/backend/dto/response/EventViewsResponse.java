@@ -0,0 +1,61 @@
+package com.secretsanta.backend.dto.response;
+
+import com.secretsanta.backend.repository.projection.EventViewTotals;
+import com.secretsanta.backend.repository.projection.ParticipantViewRow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventViewsResponse {
+
+    private Long eventId;
+    private Integer participantCount;
+    private Integer viewedCount;
+    private Long totalViews;
+    private List<ParticipantViews> participants;
+
+    // Cursor for the next page of participants, null on the last page
+    private String participantsNextCursor;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ParticipantViews {
+        private Long participantId;
+        private String name;
+        private Long viewCount;
+        private LocalDateTime firstViewedAt;
+    }
+
+    // Factory method from the event's totals and one page of view rows
+    public static EventViewsResponse from(Long eventId, EventViewTotals totals, List<ParticipantViewRow> page,
+                                          String nextCursor) {
+        List<ParticipantViews> participants = page.stream()
+                .map(row -> ParticipantViews.builder()
+                        .participantId(row.participantId())
+                        .name(row.name())
+                        .viewCount(row.viewCount() != null ? row.viewCount() : 0)
+                        .firstViewedAt(row.firstViewedAt())
+                        .build())
+                .collect(Collectors.toList());
+
+        return EventViewsResponse.builder()
+                .eventId(eventId)
+                .participantCount(totals.participantCount().intValue())
+                .viewedCount(totals.viewedCount().intValue())
+                .totalViews(totals.totalViews())
+                .participants(participants)
+                .participantsNextCursor(nextCursor)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.secretsanta.backend.dto.response;
+
+import com.secretsanta.backend.model.ExclusionRule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExclusionRuleResponse {
+
+    private Long id;
+    private Long eventId;
+    private Long giverId;
+    private String giverName;
+    private Long receiverId;
+    private String receiverName;
+    private Boolean mutual;
+    private LocalDateTime createdAt;
+
+    // Factory method to create from entity
+    public static ExclusionRuleResponse from(ExclusionRule rule) {
+        return ExclusionRuleResponse.builder()
+                .id(rule.getId())
+                .eventId(rule.getEvent().getId())
+                .giverId(rule.getGiver().getId())
+                .giverName(rule.getGiver().getName())
+                .receiverId(rule.getReceiver().getId())
+                .receiverName(rule.getReceiver().getName())
+                .mutual(rule.getMutual())
+                .createdAt(rule.getCreatedAt())
+                .build();
+    }
+}
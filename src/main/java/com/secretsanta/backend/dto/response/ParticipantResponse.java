@@ -25,13 +25,18 @@ public class ParticipantResponse {
 
     // Factory method to create from entity
     public static ParticipantResponse from(Participant participant) {
+        return from(participant, participant.hasAssignment());
+    }
+
+    // Factory method for when draw membership is already known
+    public static ParticipantResponse from(Participant participant, boolean hasAssignment) {
         return ParticipantResponse.builder()
                 .id(participant.getId())
                 .name(participant.getName())
                 .email(participant.getEmail())
                 .accessCode(participant.getAccessCode())
                 .eventId(participant.getEvent().getId())
-                .hasAssignment(participant.hasAssignment())
+                .hasAssignment(hasAssignment)
                 .createdAt(participant.getCreatedAt())
                 .build();
     }
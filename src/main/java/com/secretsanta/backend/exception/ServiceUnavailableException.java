@@ -0,0 +1,8 @@
+package com.secretsanta.backend.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
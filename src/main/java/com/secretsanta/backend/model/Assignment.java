@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(
     name = "assignments",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "giver_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "generation", "giver_id"}),
+    indexes = @Index(name = "idx_assignments_giver", columnList = "giver_id")
 )
 @Getter
 @Setter
@@ -19,14 +20,15 @@ import java.time.LocalDateTime;
 public class Assignment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "assignments_seq")
+    @SequenceGenerator(name = "assignments_seq", sequenceName = "assignments_id_seq", allocationSize = 500)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "giver_id", nullable = false)
     private Participant giver;
 
@@ -34,6 +36,11 @@ public class Assignment {
     @JoinColumn(name = "receiver_id", nullable = false)
     private Participant receiver;
 
+    // Draw generation this row belongs to; rows are never updated after a draw
+    // Rows created before generations existed default to the first generation
+    @Column(name = "generation", nullable = false, columnDefinition = "integer default 1")
+    private Integer generation;
+
     @CreationTimestamp
     @Column(name = "assigned_at", nullable = false, updatable = false)
     private LocalDateTime assignedAt;
@@ -0,0 +1,58 @@
+package com.secretsanta.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A draw stored as a permutation instead of one assignment row per participant
+ * Participant IDs are stored in draw order; the receiver of the giver at position i
+ * is the participant at position receiverIndexes[i]. Together with the strategy and
+ * the seed the draw can be reproduced and audited.
+ */
+@Entity
+@Table(
+    name = "draw_permutations",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "generation"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DrawPermutation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "draw_permutations_seq")
+    @SequenceGenerator(name = "draw_permutations_seq", sequenceName = "draw_permutations_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @Column(nullable = false)
+    private Integer generation;
+
+    // Strategy the draw was made with; null for draws stored before it was recorded
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private DrawStrategyType strategy;
+
+    // Seed of the random generator the draw was made with
+    @Column(nullable = false)
+    private Long seed;
+
+    @Column(name = "participant_ids", nullable = false, length = Integer.MAX_VALUE)
+    private byte[] participantIds;
+
+    @Column(name = "receiver_indexes", nullable = false, length = Integer.MAX_VALUE)
+    private byte[] receiverIndexes;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+}
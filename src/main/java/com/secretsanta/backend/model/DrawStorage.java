@@ -0,0 +1,11 @@
+package com.secretsanta.backend.model;
+
+/**
+ * How a completed draw is stored
+ */
+public enum DrawStorage {
+    // One assignment row per participant
+    ROWS,
+    // One compact permutation per draw, see DrawPermutation
+    PERMUTATION
+}
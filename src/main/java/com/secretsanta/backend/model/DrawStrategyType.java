@@ -0,0 +1,13 @@
+package com.secretsanta.backend.model;
+
+/**
+ * Algorithm used to compute a draw
+ */
+public enum DrawStrategyType {
+    // Uniform random derangement, no exclusion rules
+    RANDOM,
+    // Single gift-giving circle through all participants, no exclusion rules
+    CIRCULAR,
+    // Derangement repaired to satisfy exclusion rules
+    CONSTRAINED
+}
@@ -11,7 +11,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Table(
+    name = "events",
+    indexes = @Index(name = "idx_events_admin_created", columnList = "admin_id, created_at, id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +23,8 @@ import java.util.List;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -39,6 +43,29 @@ public class Event {
     @Builder.Default
     private Boolean isLocked = false;
 
+    // When enabled, no two participants may draw each other
+    @Column(name = "prevent_reciprocal")
+    @Builder.Default
+    private Boolean preventReciprocal = false;
+
+    // Draw generation served to participants; null until the first draw
+    @Column(name = "current_draw_generation")
+    private Integer currentDrawGeneration;
+
+    // Highest draw generation ever written for this event
+    @Column(name = "latest_draw_generation")
+    private Integer latestDrawGeneration;
+
+    // Bumped on every change visible in the event detail or reveal, used for ETags
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long revision = 0L;
+
+    // Storage format of the current draw generation; null means assignment rows
+    @Enumerated(EnumType.STRING)
+    @Column(name = "draw_storage", length = 20)
+    private DrawStorage drawStorage;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -55,6 +82,18 @@ public class Event {
     @Builder.Default
     private List<Assignment> assignments = new ArrayList<>();
 
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<DrawPermutation> drawPermutations = new ArrayList<>();
+
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<RevealDocument> revealDocuments = new ArrayList<>();
+
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
+    private List<ExclusionRule> exclusionRules = new ArrayList<>();
+
     // Helper methods for managing relationships
     public void addParticipant(Participant participant) {
         participants.add(participant);
@@ -77,7 +116,12 @@ public class Event {
 
     // Business logic methods
     public boolean hasDrawBeenPerformed() {
-        return !assignments.isEmpty();
+        return currentDrawGeneration != null;
+    }
+
+    public int nextDrawGeneration() {
+        latestDrawGeneration = (latestDrawGeneration == null ? 0 : latestDrawGeneration) + 1;
+        return latestDrawGeneration;
     }
 
     public int getParticipantCount() {
@@ -91,4 +135,16 @@ public class Event {
     public boolean canBeModified() {
         return !isLocked;
     }
+
+    public void bumpRevision() {
+        revision = (revision == null ? 0 : revision) + 1;
+    }
+
+    public boolean isCompactDrawStorage() {
+        return drawStorage == DrawStorage.PERMUTATION;
+    }
+
+    public boolean isReciprocalPrevented() {
+        return Boolean.TRUE.equals(preventReciprocal);
+    }
 }
@@ -0,0 +1,55 @@
+package com.secretsanta.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(
+    name = "exclusion_rules",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "giver_id", "receiver_id"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExclusionRule {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exclusion_rules_seq")
+    @SequenceGenerator(name = "exclusion_rules_seq", sequenceName = "exclusion_rules_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "giver_id", nullable = false)
+    private Participant giver;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "receiver_id", nullable = false)
+    private Participant receiver;
+
+    // When mutual, neither participant may draw the other
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean mutual = true;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // Validation to prevent excluding a participant from themselves
+    @PrePersist
+    @PreUpdate
+    private void validateRule() {
+        if (giver != null && receiver != null && giver.getId().equals(receiver.getId())) {
+            throw new IllegalStateException("Participant cannot be excluded from themselves");
+        }
+    }
+}
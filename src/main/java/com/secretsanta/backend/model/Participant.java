@@ -5,12 +5,15 @@ import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(
     name = "participants",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "email"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"event_id", "email"}),
+    indexes = @Index(name = "idx_participants_event_created", columnList = "event_id, created_at, id")
 )
 @Getter
 @Setter
@@ -20,7 +23,8 @@ import java.util.UUID;
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participants_seq")
+    @SequenceGenerator(name = "participants_seq", sequenceName = "participants_id_seq", allocationSize = 100)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -36,12 +40,22 @@ public class Participant {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // Reveal views, written only by RevealViewService's batched flush
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bigint default 0")
+    private Long viewCount;
+
+    @Column(name = "first_viewed_at", insertable = false, updatable = false)
+    private LocalDateTime firstViewedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
-    @OneToOne(mappedBy = "giver", cascade = CascadeType.ALL)
-    private Assignment givenAssignment;
+    // One assignment per draw generation
+    @OneToMany(mappedBy = "giver", cascade = CascadeType.ALL)
+    @Builder.Default
+    private List<Assignment> givenAssignments = new ArrayList<>();
 
     // Generate access code before persisting
     @PrePersist
@@ -53,6 +67,8 @@ public class Participant {
 
     // Business logic methods
     public boolean hasAssignment() {
-        return givenAssignment != null;
+        Integer generation = event.getCurrentDrawGeneration();
+        return generation != null && givenAssignments.stream()
+                .anyMatch(assignment -> generation.equals(assignment.getGeneration()));
     }
 }
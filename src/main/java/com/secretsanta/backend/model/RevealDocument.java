@@ -0,0 +1,45 @@
+package com.secretsanta.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Serialized reveal response of one participant in one draw generation
+ * Written when the draw is made (and rewritten when the event changes),
+ * so the public reveal endpoint can return the bytes as they are
+ */
+@Entity
+@Table(
+    name = "reveal_documents",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"access_code", "generation"}),
+    indexes = @Index(name = "idx_reveal_documents_event", columnList = "event_id, generation")
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevealDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reveal_documents_seq")
+    @SequenceGenerator(name = "reveal_documents_seq", sequenceName = "reveal_documents_id_seq", allocationSize = 500)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    // Giver's access code, copied so lookups need no join on participants
+    @Column(name = "access_code", nullable = false)
+    private UUID accessCode;
+
+    @Column(nullable = false)
+    private Integer generation;
+
+    // UTF-8 JSON of the AssignmentResponse
+    @Column(nullable = false, length = Integer.MAX_VALUE)
+    private byte[] payload;
+}
@@ -2,7 +2,11 @@ package com.secretsanta.backend.repository;
 
 import com.secretsanta.backend.model.Admin;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -20,4 +24,13 @@ public interface AdminRepository extends JpaRepository<Admin, Long> {
      * Used for registration validation
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Replace an admin's password hash
+     * Used to rehash on login after the BCrypt cost changed
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Admin a SET a.password = :password WHERE a.id = :id")
+    int updatePassword(@Param("id") Long id, @Param("password") String password);
 }
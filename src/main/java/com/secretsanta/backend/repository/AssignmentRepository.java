@@ -1,14 +1,18 @@
 package com.secretsanta.backend.repository;
 
 import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.repository.projection.AssignmentRevealView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 @Repository
 public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
@@ -26,20 +30,39 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     boolean existsByEventId(Long eventId);
 
     /**
-     * Find assignment for a specific giver
-     * Returns who this participant is giving to
+     * Check if a specific draw generation still exists
+     * Used before rolling back to a previous draw
      */
-    Optional<Assignment> findByGiverId(Long giverId);
+    boolean existsByEventIdAndGeneration(Long eventId, Integer generation);
 
     /**
-     * Find assignment by giver's access code
-     * Used when participant views their assignment
+     * Find the reveal of a giver's access code in the event's current draw
+     * One statement joining assignment, both participants and the event;
+     * participants.access_code is unique, so the giver is found through its index
      */
-    @Query("SELECT a FROM Assignment a " +
+    @Query("SELECT new com.secretsanta.backend.repository.projection.AssignmentRevealView(" +
+           "e.id, e.revision, g.name, r.name, r.email, e.name, e.drawDate, e.budget, e.description) " +
+           "FROM Assignment a " +
            "JOIN a.giver g " +
+           "JOIN a.receiver r " +
+           "JOIN a.event e " +
+           "WHERE g.accessCode = :accessCode " +
+           "AND a.generation = e.currentDrawGeneration")
+    Optional<AssignmentRevealView> findRevealByGiverAccessCode(@Param("accessCode") UUID accessCode);
+
+    /**
+     * Find the assignments of a draw generation with both participants loaded
+     * Used when rewriting reveal documents after an event change
+     */
+    @Query("SELECT a FROM Assignment a " +
+           "JOIN FETCH a.giver " +
            "JOIN FETCH a.receiver " +
-           "WHERE g.accessCode = :accessCode")
-    Optional<Assignment> findByGiverAccessCode(@Param("accessCode") java.util.UUID accessCode);
+           "WHERE a.event.id = :eventId " +
+           "AND a.generation = :generation")
+    List<Assignment> findByEventIdAndGenerationWithParticipants(
+            @Param("eventId") Long eventId,
+            @Param("generation") Integer generation
+    );
 
     /**
      * Delete all assignments for an event
@@ -49,9 +72,48 @@ public interface AssignmentRepository extends JpaRepository<Assignment, Long> {
     @Query("DELETE FROM Assignment a WHERE a.event.id = :eventId")
     void deleteByEventId(@Param("eventId") Long eventId);
 
+    /**
+     * Find which of the given participants give a gift in a draw generation
+     * Used to mark a page of participants without loading their assignments
+     */
+    @Query("SELECT a.giver.id FROM Assignment a " +
+           "WHERE a.event.id = :eventId " +
+           "AND a.generation = :generation " +
+           "AND a.giver.id IN :giverIds")
+    List<Long> findGiverIdsInGeneration(
+            @Param("eventId") Long eventId,
+            @Param("generation") Integer generation,
+            @Param("giverIds") Collection<Long> giverIds
+    );
+
     /**
      * Count assignments for an event
      * Used for verification
      */
     long countByEventId(Long eventId);
+
+    /**
+     * Count assignments in a draw generation
+     * Used when reporting a rolled back draw
+     */
+    long countByEventIdAndGeneration(Long eventId, Integer generation);
+
+    /**
+     * Delete a chunk of superseded draw generations across all events
+     * Keeps the current generation and the newest retained generations for rollback
+     * Returns the number of deleted rows; callers repeat until it reaches zero
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM assignments WHERE id IN (" +
+                   "SELECT a.id FROM assignments a " +
+                   "JOIN events e ON e.id = a.event_id " +
+                   "WHERE a.generation <> COALESCE(e.current_draw_generation, 0) " +
+                   "AND a.generation <= e.latest_draw_generation - :retainedGenerations " +
+                   "LIMIT :chunkSize)",
+           nativeQuery = true)
+    int deleteSupersededGenerations(
+            @Param("retainedGenerations") int retainedGenerations,
+            @Param("chunkSize") int chunkSize
+    );
 }
@@ -0,0 +1,40 @@
+package com.secretsanta.backend.repository;
+
+import com.secretsanta.backend.model.DrawPermutation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface DrawPermutationRepository extends JpaRepository<DrawPermutation, Long> {
+
+    /**
+     * Find the compactly stored draw of a generation
+     * Used when participant views their assignment
+     */
+    Optional<DrawPermutation> findByEventIdAndGeneration(Long eventId, Integer generation);
+
+    /**
+     * Check if a specific draw generation still exists
+     * Used before rolling back to a previous draw
+     */
+    boolean existsByEventIdAndGeneration(Long eventId, Integer generation);
+
+    /**
+     * Delete superseded draw generations across all events
+     * Same retention rule as the assignment rows
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM draw_permutations p USING events e " +
+                   "WHERE e.id = p.event_id " +
+                   "AND p.generation <> COALESCE(e.current_draw_generation, 0) " +
+                   "AND p.generation <= e.latest_draw_generation - :retainedGenerations",
+           nativeQuery = true)
+    int deleteSupersededGenerations(@Param("retainedGenerations") int retainedGenerations);
+}
@@ -1,11 +1,18 @@
 package com.secretsanta.backend.repository;
 
 import com.secretsanta.backend.model.Event;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,12 +25,60 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     List<Event> findByAdminIdOrderByCreatedAtDesc(Long adminId);
 
+    /**
+     * Find the first page of an admin's events, newest first
+     * Used in "Get All Events" endpoint
+     */
+    @Query("SELECT e FROM Event e WHERE e.admin.id = :adminId ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findPageByAdminId(@Param("adminId") Long adminId, Pageable pageable);
+
+    /**
+     * Find the page of an admin's events after a cursor, newest first
+     * Seeks through the (admin_id, created_at, id) index instead of skipping rows
+     */
+    @Query("SELECT e FROM Event e " +
+           "WHERE e.admin.id = :adminId " +
+           "AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id)) " +
+           "ORDER BY e.createdAt DESC, e.id DESC")
+    List<Event> findPageByAdminIdAfter(
+            @Param("adminId") Long adminId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
     /**
      * Find event by ID and admin ID
      * Used to verify admin owns the event before allowing operations
      */
     Optional<Event> findByIdAndAdminId(Long id, Long adminId);
 
+    /**
+     * Find event by ID and admin ID, locking its row until the transaction ends
+     * Used to serialize draws and participant changes across instances
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id = :id AND e.admin.id = :adminId")
+    Optional<Event> findByIdAndAdminIdForUpdate(@Param("id") Long id, @Param("adminId") Long adminId);
+
+    /**
+     * Find several events of an admin, locking their rows until the transaction ends
+     * Rows are locked in ID order so overlapping batches cannot deadlock
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.id IN :ids AND e.admin.id = :adminId ORDER BY e.id")
+    List<Event> findByIdInAndAdminIdForUpdate(
+            @Param("ids") Collection<Long> ids,
+            @Param("adminId") Long adminId
+    );
+
+    /**
+     * Find the revision of an event owned by this admin
+     * Used for conditional GETs; reads one indexed row and no entities
+     */
+    @Query("SELECT e.revision FROM Event e WHERE e.id = :id AND e.admin.id = :adminId")
+    Optional<Long> findRevisionByIdAndAdminId(@Param("id") Long id, @Param("adminId") Long adminId);
+
     /**
      * Check if event exists and belongs to admin
      * Quick existence check without fetching full entity
@@ -43,4 +98,15 @@ public interface EventRepository extends JpaRepository<Event, Long> {
      */
     @Query("SELECT e FROM Event e LEFT JOIN FETCH e.assignments WHERE e.id = :id")
     Optional<Event> findByIdWithAssignments(@Param("id") Long id);
+
+    /**
+     * Point events drawn before draw generations existed at their first generation
+     * Runs once at startup; events that ever drew with generations are left alone
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Event e SET e.currentDrawGeneration = 1, e.latestDrawGeneration = 1 " +
+           "WHERE e.latestDrawGeneration IS NULL " +
+           "AND EXISTS (SELECT a.id FROM Assignment a WHERE a.event = e)")
+    int backfillDrawGenerations();
 }
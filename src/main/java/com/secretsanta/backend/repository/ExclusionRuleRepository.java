@@ -0,0 +1,52 @@
+package com.secretsanta.backend.repository;
+
+import com.secretsanta.backend.model.ExclusionRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExclusionRuleRepository extends JpaRepository<ExclusionRule, Long> {
+
+    /**
+     * Find all exclusion rules for an event with both participants loaded
+     * Used in "Get Exclusion Rules" endpoint
+     */
+    @Query("SELECT r FROM ExclusionRule r " +
+           "JOIN FETCH r.giver " +
+           "JOIN FETCH r.receiver " +
+           "WHERE r.event.id = :eventId " +
+           "ORDER BY r.createdAt ASC")
+    List<ExclusionRule> findByEventIdWithParticipants(@Param("eventId") Long eventId);
+
+    /**
+     * Find all exclusion rules for an event
+     * Used by the draw solver, which only needs participant IDs
+     */
+    List<ExclusionRule> findByEventId(Long eventId);
+
+    /**
+     * Find all exclusion rules of several events in one query
+     * Used by batch draws
+     */
+    List<ExclusionRule> findByEventIdIn(Collection<Long> eventIds);
+
+    /**
+     * Check if the same rule already exists
+     * Used for duplicate prevention
+     */
+    boolean existsByEventIdAndGiverIdAndReceiverId(Long eventId, Long giverId, Long receiverId);
+
+    /**
+     * Delete all rules that reference a participant
+     * Used when removing a participant
+     */
+    @Modifying
+    @Query("DELETE FROM ExclusionRule r WHERE r.giver.id = :participantId OR r.receiver.id = :participantId")
+    void deleteByParticipantId(@Param("participantId") Long participantId);
+}
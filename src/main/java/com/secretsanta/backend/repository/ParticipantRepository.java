@@ -1,14 +1,25 @@
 package com.secretsanta.backend.repository;
 
 import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.projection.EventParticipantCount;
+import com.secretsanta.backend.repository.projection.EventViewTotals;
+import com.secretsanta.backend.repository.projection.ParticipantExportRow;
+import com.secretsanta.backend.repository.projection.ParticipantViewRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ParticipantRepository extends JpaRepository<Participant, Long> {
@@ -19,6 +30,34 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      */
     List<Participant> findByEventIdOrderByCreatedAtAsc(Long eventId);
 
+    /**
+     * Find the first page of an event's participants, oldest first
+     * Used in "Get Participants" endpoint and the event detail
+     */
+    @Query("SELECT p FROM Participant p WHERE p.event.id = :eventId ORDER BY p.createdAt ASC, p.id ASC")
+    List<Participant> findPageByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    /**
+     * Find the page of an event's participants after a cursor, oldest first
+     * Seeks through the (event_id, created_at, id) index instead of skipping rows
+     */
+    @Query("SELECT p FROM Participant p " +
+           "WHERE p.event.id = :eventId " +
+           "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<Participant> findPageByEventIdAfter(
+            @Param("eventId") Long eventId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * Find participants of several events in one query
+     * Used by batch draws
+     */
+    List<Participant> findByEventIdInOrderByCreatedAtAsc(Collection<Long> eventIds);
+
     /**
      * Find participant by ID and verify they belong to correct event
      * Used for delete operations
@@ -38,11 +77,81 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     Optional<Participant> findByAccessCode(UUID accessCode);
 
     /**
-     * Find participant with their assignment eagerly loaded
+     * Find participant by access code with their event loaded
+     * Used when viewing a compactly stored draw
+     */
+    @Query("SELECT p FROM Participant p JOIN FETCH p.event WHERE p.accessCode = :accessCode")
+    Optional<Participant> findByAccessCodeWithEvent(@Param("accessCode") UUID accessCode);
+
+    /**
+     * Stream every access code
+     * Used to rebuild the access code filter without loading participants
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.accessCode FROM Participant p")
+    Stream<UUID> streamAllAccessCodes();
+
+    /**
+     * Stream the export rows of an event's participants
+     * Read through a forward-only cursor, so an export holds one fetch of rows at a time
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.secretsanta.backend.repository.projection.ParticipantExportRow(" +
+           "p.id, p.name, p.email, p.accessCode, p.createdAt) " +
+           "FROM Participant p " +
+           "WHERE p.event.id = :eventId " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    Stream<ParticipantExportRow> streamExportRowsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Find the first page of an event's participant views, oldest first
+     * Used by the event views endpoint
+     */
+    @Query("SELECT new com.secretsanta.backend.repository.projection.ParticipantViewRow(" +
+           "p.id, p.name, p.viewCount, p.firstViewedAt, p.createdAt) " +
+           "FROM Participant p " +
+           "WHERE p.event.id = :eventId " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<ParticipantViewRow> findViewPageByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    /**
+     * Find the page of an event's participant views after a cursor, oldest first
+     */
+    @Query("SELECT new com.secretsanta.backend.repository.projection.ParticipantViewRow(" +
+           "p.id, p.name, p.viewCount, p.firstViewedAt, p.createdAt) " +
+           "FROM Participant p " +
+           "WHERE p.event.id = :eventId " +
+           "AND (p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id)) " +
+           "ORDER BY p.createdAt ASC, p.id ASC")
+    List<ParticipantViewRow> findViewPageByEventIdAfter(
+            @Param("eventId") Long eventId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable pageable
+    );
+
+    /**
+     * Count an event's participants, those who opened their reveal, and all views
+     */
+    @Query("SELECT new com.secretsanta.backend.repository.projection.EventViewTotals(" +
+           "COUNT(p), COUNT(p.firstViewedAt), COALESCE(SUM(p.viewCount), 0)) " +
+           "FROM Participant p " +
+           "WHERE p.event.id = :eventId")
+    EventViewTotals summarizeViewsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Find the revision of the event a participant belongs to
+     * Used for conditional GETs of the reveal
+     */
+    @Query("SELECT e.revision FROM Participant p JOIN p.event e WHERE p.accessCode = :accessCode")
+    Optional<Long> findEventRevisionByAccessCode(@Param("accessCode") UUID accessCode);
+
+    /**
+     * Find participant with their assignments eagerly loaded
      * Optimizes query when showing assignment
      */
     @Query("SELECT p FROM Participant p " +
-           "LEFT JOIN FETCH p.givenAssignment a " +
+           "LEFT JOIN FETCH p.givenAssignments a " +
            "LEFT JOIN FETCH a.receiver " +
            "WHERE p.accessCode = :accessCode")
     Optional<Participant> findByAccessCodeWithAssignment(@Param("accessCode") UUID accessCode);
@@ -52,4 +161,15 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      * Used for validation before draw
      */
     long countByEventId(Long eventId);
+
+    /**
+     * Count participants of several events in one grouped query
+     * Events without participants are missing from the result
+     */
+    @Query("SELECT new com.secretsanta.backend.repository.projection.EventParticipantCount(" +
+           "p.event.id, COUNT(p)) " +
+           "FROM Participant p " +
+           "WHERE p.event.id IN :eventIds " +
+           "GROUP BY p.event.id")
+    List<EventParticipantCount> countByEventIds(@Param("eventIds") Collection<Long> eventIds);
 }
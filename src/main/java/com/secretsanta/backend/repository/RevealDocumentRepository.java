@@ -0,0 +1,93 @@
+package com.secretsanta.backend.repository;
+
+import com.secretsanta.backend.model.RevealDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface RevealDocumentRepository extends JpaRepository<RevealDocument, Long> {
+
+    /**
+     * Event ID and serialized reveal of a document
+     */
+    interface Payload {
+        Long getEventId();
+
+        Long getRevision();
+
+        byte[] getPayload();
+    }
+
+    /**
+     * Serialized reveal together with the access code it belongs to
+     */
+    interface AccessCodePayload extends Payload {
+        UUID getAccessCode();
+    }
+
+    /**
+     * Find the serialized reveal for an access code in the event's current draw
+     * Used when participant views their assignment; loads no entities
+     */
+    @Query("SELECT e.id AS eventId, e.revision AS revision, d.payload AS payload " +
+           "FROM RevealDocument d JOIN d.event e " +
+           "WHERE d.accessCode = :accessCode " +
+           "AND d.generation = e.currentDrawGeneration")
+    Optional<Payload> findCurrentPayload(@Param("accessCode") UUID accessCode);
+
+    /**
+     * Stream every serialized reveal of the event's current draw
+     * Used to warm the reveal cache when an event is locked
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT d.accessCode AS accessCode, e.id AS eventId, e.revision AS revision, d.payload AS payload " +
+           "FROM RevealDocument d JOIN d.event e " +
+           "WHERE e.id = :eventId " +
+           "AND d.generation = e.currentDrawGeneration")
+    Stream<AccessCodePayload> streamCurrentPayloadsByEventId(@Param("eventId") Long eventId);
+
+    /**
+     * Delete the documents of one draw generation
+     * Used before rewriting them after an event change
+     */
+    @Modifying
+    @Query("DELETE FROM RevealDocument d WHERE d.event.id = :eventId AND d.generation = :generation")
+    int deleteByEventIdAndGeneration(@Param("eventId") Long eventId, @Param("generation") Integer generation);
+
+    /**
+     * Delete all documents of a participant
+     * Used when removing a participant
+     */
+    @Modifying
+    @Query("DELETE FROM RevealDocument d WHERE d.accessCode = :accessCode")
+    int deleteByAccessCode(@Param("accessCode") UUID accessCode);
+
+    /**
+     * Delete a chunk of superseded draw generations across all events
+     * Same retention rule as the assignment rows
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM reveal_documents WHERE id IN (" +
+                   "SELECT d.id FROM reveal_documents d " +
+                   "JOIN events e ON e.id = d.event_id " +
+                   "WHERE d.generation <> COALESCE(e.current_draw_generation, 0) " +
+                   "AND d.generation <= e.latest_draw_generation - :retainedGenerations " +
+                   "LIMIT :chunkSize)",
+           nativeQuery = true)
+    int deleteSupersededGenerations(
+            @Param("retainedGenerations") int retainedGenerations,
+            @Param("chunkSize") int chunkSize
+    );
+}
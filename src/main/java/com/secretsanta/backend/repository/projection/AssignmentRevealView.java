@@ -0,0 +1,21 @@
+package com.secretsanta.backend.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Read model of a reveal: exactly the columns AssignmentResponse needs
+ * Filled by a single query, no entities are loaded
+ */
+public record AssignmentRevealView(
+        Long eventId,
+        Long eventRevision,
+        String giverName,
+        String receiverName,
+        String receiverEmail,
+        String eventName,
+        LocalDate drawDate,
+        BigDecimal budget,
+        String eventDescription
+) {
+}
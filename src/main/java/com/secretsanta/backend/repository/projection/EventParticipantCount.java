@@ -0,0 +1,7 @@
+package com.secretsanta.backend.repository.projection;
+
+/**
+ * Number of participants in one event, from a grouped count
+ */
+public record EventParticipantCount(Long eventId, Long participantCount) {
+}
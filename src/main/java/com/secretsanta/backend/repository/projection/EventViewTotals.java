@@ -0,0 +1,7 @@
+package com.secretsanta.backend.repository.projection;
+
+/**
+ * Reveal view totals of one event, from a single aggregate query
+ */
+public record EventViewTotals(Long participantCount, Long viewedCount, Long totalViews) {
+}
@@ -0,0 +1,17 @@
+package com.secretsanta.backend.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One line of a participant export
+ * Read straight from the cursor, no entities are loaded
+ */
+public record ParticipantExportRow(
+        Long id,
+        String name,
+        String email,
+        UUID accessCode,
+        LocalDateTime createdAt
+) {
+}
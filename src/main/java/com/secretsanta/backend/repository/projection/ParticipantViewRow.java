@@ -0,0 +1,15 @@
+package com.secretsanta.backend.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reveal views of one participant, with the creation time for paging
+ */
+public record ParticipantViewRow(
+        Long participantId,
+        String name,
+        Long viewCount,
+        LocalDateTime firstViewedAt,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.secretsanta.backend.security;
+
+import java.security.Principal;
+
+/**
+ * Authenticated admin, built from the claims of a verified JWT
+ * Carries just enough to check ownership without loading the admin
+ */
+public record AdminPrincipal(Long id, String email) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
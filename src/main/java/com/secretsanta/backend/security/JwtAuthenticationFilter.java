@@ -7,13 +7,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -35,16 +36,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String jwt = getJwtFromRequest(request);
 
             // Validate and authenticate
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String email = tokenProvider.getEmailFromToken(jwt);
+            Optional<AdminPrincipal> verified = StringUtils.hasText(jwt)
+                    ? tokenProvider.verifyToken(jwt)
+                    : Optional.empty();
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+            if (verified.isPresent()) {
+                // The verified token identifies the admin, no lookup needed
+                AdminPrincipal principal = verified.get();
+                if (principal.id() == null) {
+                    principal = userDetailsService.loadPrincipalByEmail(principal.email());
+                }
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                principal,
                                 null,
-                                userDetails.getAuthorities()
+                                Collections.emptyList()
                         );
 
                 authentication.setDetails(
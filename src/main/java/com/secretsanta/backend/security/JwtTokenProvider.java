@@ -1,100 +1,146 @@
 package com.secretsanta.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+
+    // Claim holding the admin's ID, so requests need no admin lookup
+    private static final String ADMIN_ID_CLAIM = "adminId";
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
     @Value("${jwt.expiration}")
     private long jwtExpirationMs;
 
-    // Generate signing key from secret
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtSecret.getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
 
-    /**
-     * Generate JWT token from authentication
-     */
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        Date now = new Date();
-        Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
+    // Built once; both are immutable and thread-safe
+    private Key signingKey;
+    private JwtParser parser;
 
-        return Jwts.builder()
-                .setSubject(userDetails.getUsername())
-                .setIssuedAt(now)
-                .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
-                .compact();
+    // Tokens whose signature was already checked, keyed by SHA-256 so raw tokens are not kept
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(Duration.ofMillis(jwtExpirationMs))
+                .build();
     }
 
     /**
-     * Generate JWT token from email
+     * Generate JWT token for an admin
+     * The email is the subject and the admin ID a claim
      */
-    public String generateTokenFromEmail(String email) {
+    public String generateToken(Long adminId, String email) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
                 .setSubject(email)
+                .claim(ADMIN_ID_CLAIM, adminId)
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * Get email from JWT token
+     * Verify a token and get the admin it was issued to, in a single parse
+     * A token seen before is answered from the cache until it expires
+     * The ID is null for tokens issued before it was added as a claim
      */
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+    public Optional<AdminPrincipal> verifyToken(String token) {
+        String digest = digest(token);
+        long now = System.currentTimeMillis();
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            if (cached.expiresAtMs() > now) {
+                return Optional.of(cached.principal());
+            }
+            verifiedTokens.invalidate(digest);
+            return Optional.empty();
+        }
+
+        Optional<Claims> claims = parseClaims(token);
+        if (claims.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Number adminId = claims.get().get(ADMIN_ID_CLAIM, Number.class);
+        AdminPrincipal principal = new AdminPrincipal(
+                adminId != null ? adminId.longValue() : null,
+                claims.get().getSubject()
+        );
+        Date expiration = claims.get().getExpiration();
+        if (expiration != null) {
+            verifiedTokens.put(digest, new VerifiedToken(principal, expiration.getTime()));
+        }
+        return Optional.of(principal);
     }
 
     /**
-     * Validate JWT token
+     * Get token expiration time in milliseconds
      */
-    public boolean validateToken(String token) {
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
+    private Optional<Claims> parseClaims(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
         } catch (MalformedJwtException ex) {
-            System.err.println("Invalid JWT token");
+            log.debug("Invalid JWT token");
         } catch (ExpiredJwtException ex) {
-            System.err.println("Expired JWT token");
+            log.debug("Expired JWT token");
         } catch (UnsupportedJwtException ex) {
-            System.err.println("Unsupported JWT token");
+            log.debug("Unsupported JWT token");
+        } catch (JwtException ex) {
+            log.debug("Invalid JWT signature");
         } catch (IllegalArgumentException ex) {
-            System.err.println("JWT claims string is empty");
+            log.debug("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
     }
 
-    /**
-     * Get token expiration time in milliseconds
-     */
-    public long getExpirationMs() {
-        return jwtExpirationMs;
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record VerifiedToken(AdminPrincipal principal, long expiresAtMs) {
     }
 }
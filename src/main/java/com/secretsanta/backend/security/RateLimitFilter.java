@@ -0,0 +1,154 @@
+package com.secretsanta.backend.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sheds excess requests per client IP and endpoint group
+ * Runs ahead of JWT authentication, so a rejected request never
+ * touches the database or a password hash
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private TokenBucketRateLimiter rateLimiter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.auth.capacity:10}")
+    private int authCapacity;
+
+    @Value("${rate-limit.auth.refill-per-second:0.2}")
+    private double authRefillPerSecond;
+
+    @Value("${rate-limit.reveal.capacity:30}")
+    private int revealCapacity;
+
+    @Value("${rate-limit.reveal.refill-per-second:2}")
+    private double revealRefillPerSecond;
+
+    @Value("${rate-limit.api.capacity:100}")
+    private int apiCapacity;
+
+    @Value("${rate-limit.api.refill-per-second:20}")
+    private double apiRefillPerSecond;
+
+    private Map<Group, TokenBucketRateLimiter.Limit> limits;
+    private Map<Group, Counter> rejections;
+
+    @PostConstruct
+    void buildLimits() {
+        limits = Map.of(
+                Group.AUTH, new TokenBucketRateLimiter.Limit(authCapacity, authRefillPerSecond),
+                Group.REVEAL, new TokenBucketRateLimiter.Limit(revealCapacity, revealRefillPerSecond),
+                Group.API, new TokenBucketRateLimiter.Limit(apiCapacity, apiRefillPerSecond)
+        );
+        rejections = new LinkedHashMap<>();
+        for (Group group : Group.values()) {
+            rejections.put(group, Counter.builder("rate_limit.rejected")
+                    .description("Requests rejected with 429 by the rate limiter")
+                    .tag("group", group.key)
+                    .register(meterRegistry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // CORS preflights are cheap and must not eat into the client's budget
+        return !enabled
+                || HttpMethod.OPTIONS.matches(request.getMethod())
+                || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Group group = Group.of(request.getRequestURI());
+        // Behind a proxy, set server.forward-headers-strategy so this is the real client address
+        String key = group.key + '|' + request.getRemoteAddr();
+
+        long waitNanos = rateLimiter.tryAcquire(key, limits.get(group));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        rejections.get(group).increment();
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999) / 1_000_000_000);
+        writeTooManyRequests(request, response, retryAfterSeconds);
+    }
+
+    // Same body shape as GlobalExceptionHandler, which filters are not routed through
+    private void writeTooManyRequests(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            long retryAfterSeconds
+    ) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        body.put("error", "Too Many Requests");
+        body.put("message", "Too many requests. Please try again in " + retryAfterSeconds + " seconds.");
+        body.put("path", request.getRequestURI());
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * Endpoint groups with their own limits
+     */
+    private enum Group {
+        AUTH("auth"),
+        REVEAL("reveal"),
+        API("api");
+
+        private final String key;
+
+        Group(String key) {
+            this.key = key;
+        }
+
+        private static Group of(String path) {
+            if (path.startsWith("/api/auth/")) {
+                return AUTH;
+            }
+            if (path.startsWith("/api/assignments/")) {
+                return REVEAL;
+            }
+            return API;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.secretsanta.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process token buckets keyed by client and endpoint group
+ * Buckets refill lazily on access, so idle clients cost nothing but their cache entry
+ */
+@Component
+public class TokenBucketRateLimiter {
+
+    // Power of two so the stripe is picked with a mask
+    private static final int STRIPE_COUNT = 64;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    @Value("${rate-limit.max-clients:100000}")
+    private long maxClients;
+
+    @Value("${rate-limit.idle-ms:600000}")
+    private long idleMs;
+
+    private Cache<String, Bucket> buckets;
+
+    public TokenBucketRateLimiter() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @PostConstruct
+    void buildCache() {
+        // An evicted bucket comes back full, so idle-ms should exceed the slowest refill
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxClients)
+                .expireAfterAccess(Duration.ofMillis(idleMs))
+                .build();
+    }
+
+    /**
+     * Take one token from the bucket for a key
+     * Returns 0 when the request may proceed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, Limit limit) {
+        long now = System.nanoTime();
+        Bucket bucket = buckets.get(key, k -> new Bucket(limit.capacity(), now));
+
+        ReentrantLock lock = stripes[stripeIndex(key)];
+        lock.lock();
+        try {
+            double elapsedSeconds = Math.max(now - bucket.refilledAt, 0) / NANOS_PER_SECOND;
+            bucket.tokens = Math.min(limit.capacity(), bucket.tokens + elapsedSeconds * limit.refillPerSecond());
+            bucket.refilledAt = Math.max(now, bucket.refilledAt);
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / limit.refillPerSecond() * NANOS_PER_SECOND);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int stripeIndex(String key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return hash & (STRIPE_COUNT - 1);
+    }
+
+    /**
+     * Burst size and sustained rate of one endpoint group
+     */
+    public record Limit(int capacity, double refillPerSecond) {
+    }
+
+    // Guarded by the stripe lock of its key
+    private static final class Bucket {
+
+        private double tokens;
+        private long refilledAt;
+
+        private Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
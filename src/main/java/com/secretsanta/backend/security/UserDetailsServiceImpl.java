@@ -32,4 +32,17 @@ public class UserDetailsServiceImpl implements UserDetailsService {
                 .authorities(new ArrayList<>()) // No roles for now
                 .build();
     }
+
+    /**
+     * Load the principal of an admin by email
+     * Only needed for tokens issued without the admin ID claim
+     */
+    @Transactional(readOnly = true)
+    public AdminPrincipal loadPrincipalByEmail(String email) throws UsernameNotFoundException {
+        Admin admin = adminRepository.findByEmail(email)
+                .orElseThrow(() ->
+                        new UsernameNotFoundException("Admin not found with email: " + email)
+                );
+        return new AdminPrincipal(admin.getId(), admin.getEmail());
+    }
 }
@@ -0,0 +1,204 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.service.filter.CountingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+@Service
+public class AccessCodeFilterService {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessCodeFilterService.class);
+
+    // Smallest capacity a filter is built for, so a fresh install still has room to grow
+    private static final long MIN_CAPACITY = 10_000;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${access-codes.filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    // Null until the first build completes; every code is let through meanwhile
+    private volatile CountingBloomFilter filter;
+
+    // Filter being built; concurrent inserts are recorded here as well
+    private volatile CountingBloomFilter rebuilding;
+
+    private volatile long capacity;
+    private final AtomicLong insertsSinceBuild = new AtomicLong();
+
+    private Counter rejected;
+    private Counter passed;
+    private Counter falsePositives;
+
+    @PostConstruct
+    void registerMetrics() {
+        rejected = Counter.builder("access_codes.filter.lookups")
+                .description("Access code lookups checked against the filter")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+        passed = Counter.builder("access_codes.filter.lookups")
+                .description("Access code lookups checked against the filter")
+                .tag("result", "passed")
+                .register(meterRegistry);
+        falsePositives = Counter.builder("access_codes.filter.false_positives")
+                .description("Codes that passed the filter but do not exist")
+                .register(meterRegistry);
+        Gauge.builder("access_codes.filter.memory", this, service -> {
+                    CountingBloomFilter current = service.filter;
+                    return current == null ? 0 : current.memoryBytes();
+                })
+                .description("Memory used by the access code filter")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("access_codes.filter.expected_false_positive_rate", this, service -> {
+                    CountingBloomFilter current = service.filter;
+                    return current == null ? 0 : current.expectedFalsePositiveRate();
+                })
+                .description("False-positive rate estimated from the filter's fill ratio")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Check if an access code may exist
+     * False means it definitely does not, and the database does not need to be asked
+     */
+    public boolean mightExist(UUID accessCode) {
+        CountingBloomFilter current = filter;
+        if (current == null || current.mightContain(accessCode)) {
+            passed.increment();
+            return true;
+        }
+        rejected.increment();
+        return false;
+    }
+
+    /**
+     * Record a code that passed the filter but was not found in the database
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Add a new participant's code right away, before the transaction commits
+     * A rolled back insert only leaves a harmless false positive
+     */
+    public void add(UUID accessCode) {
+        CountingBloomFilter current = filter;
+        if (current != null) {
+            current.add(accessCode);
+        }
+        insertsSinceBuild.incrementAndGet();
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            addToRebuilt(accessCode, current);
+            return;
+        }
+        // A rebuild whose query ran before the commit cannot see the code, carry it over on commit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                addToRebuilt(accessCode, current);
+            }
+        });
+    }
+
+    /**
+     * Add a code to a filter being built or swapped in since it was first added
+     * Reads rebuilding before filter: if no rebuild is running, any rebuild that
+     * finished has already published its filter. A code counted twice only
+     * leaves a false positive once it is removed
+     */
+    private void addToRebuilt(UUID accessCode, CountingBloomFilter addedTo) {
+        CountingBloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(accessCode);
+        }
+        CountingBloomFilter latest = filter;
+        if (latest != null && latest != addedTo && latest != next) {
+            latest.add(accessCode);
+        }
+    }
+
+    /**
+     * Remove a deleted participant's code once the deletion commits
+     * Removing earlier could reject a code that still exists if the transaction rolls back
+     */
+    public void removeAfterCommit(UUID accessCode) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(accessCode);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(accessCode);
+            }
+        });
+    }
+
+    private void remove(UUID accessCode) {
+        CountingBloomFilter current = filter;
+        if (current != null) {
+            current.remove(accessCode);
+        }
+        // A filter being rebuilt may not hold the code yet, removing it there could underflow
+    }
+
+    /**
+     * Rebuild the filter from all live access codes
+     * Runs at startup and periodically to drop stale counts and resize for growth
+     */
+    @Scheduled(
+            initialDelayString = "${access-codes.filter.initial-delay-ms:0}",
+            fixedDelayString = "${access-codes.filter.rebuild-interval-ms:21600000}"
+    )
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long count = participantRepository.count();
+        long newCapacity = Math.max(count * 2, MIN_CAPACITY);
+        CountingBloomFilter next = CountingBloomFilter.create(newCapacity, falsePositiveRate);
+
+        rebuilding = next;
+        try (Stream<UUID> codes = participantRepository.streamAllAccessCodes()) {
+            codes.forEach(next::add);
+        }
+        filter = next;
+        rebuilding = null;
+        capacity = newCapacity;
+        insertsSinceBuild.set(0);
+
+        log.info("Access code filter rebuilt for {} codes ({} bytes)", count, next.memoryBytes());
+    }
+
+    /**
+     * Rebuild early once inserts have used up the filter's headroom
+     */
+    @Scheduled(fixedDelayString = "${access-codes.filter.capacity-check-ms:60000}")
+    @Transactional(readOnly = true)
+    public void rebuildIfFull() {
+        if (filter != null && insertsSinceBuild.get() > capacity / 2) {
+            rebuild();
+        }
+    }
+}
@@ -3,12 +3,18 @@ package com.secretsanta.backend.service;
 import com.secretsanta.backend.dto.response.AssignmentResponse;
 import com.secretsanta.backend.exception.BadRequestException;
 import com.secretsanta.backend.exception.ResourceNotFoundException;
-import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Participant;
 import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.repository.RevealDocumentRepository;
+import com.secretsanta.backend.repository.projection.AssignmentRevealView;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -17,14 +23,75 @@ public class AssignmentService {
     @Autowired
     private AssignmentRepository assignmentRepository;
 
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private DrawPermutationService drawPermutationService;
+
+    @Autowired
+    private RevealCacheService revealCacheService;
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private RevealDocumentService revealDocumentService;
+
+    @Autowired
+    private AccessCodeFilterService accessCodeFilterService;
+
+    @Autowired
+    private RevealViewService revealViewService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
     /**
      * View assignment by access code
      * This is a public endpoint - no authentication required
      * Access code serves as the authentication
+     * Returns the serialized AssignmentResponse, served from the reveal cache;
+     * only a miss opens a transaction
+     * The view is counted in memory and written later in a batch
+     */
+    public byte[] viewAssignment(String accessCodeStr) {
+        UUID accessCode = parseKnownAccessCode(accessCodeStr);
+        byte[] reveal = revealCacheService
+                .get(accessCode, () -> readOnlyTransaction.execute(status -> loadReveal(accessCode)))
+                .orElseThrow(this::noAssignmentFound);
+        revealViewService.recordView(accessCode);
+        return reveal;
+    }
+
+    /**
+     * Revision of the event behind an access code, used as the reveal's ETag
+     * Free when the reveal is cached, otherwise a single indexed lookup
      */
-    @Transactional(readOnly = true)
-    public AssignmentResponse viewAssignment(String accessCodeStr) {
-        // Parse access code
+    public long getRevealRevision(String accessCodeStr) {
+        UUID accessCode = parseKnownAccessCode(accessCodeStr);
+        Optional<Long> revision = revealCacheService.findCachedRevision(accessCode)
+                .or(() -> participantRepository.findEventRevisionByAccessCode(accessCode));
+        if (revision.isEmpty()) {
+            accessCodeFilterService.recordFalsePositive();
+            throw noAssignmentFound();
+        }
+        return revision.get();
+    }
+
+    /**
+     * Parse an access code and reject codes that definitely do not exist
+     * Random guesses are answered from the in-memory filter without a database query
+     */
+    private UUID parseKnownAccessCode(String accessCodeStr) {
         UUID accessCode;
         try {
             accessCode = UUID.fromString(accessCodeStr);
@@ -32,14 +99,66 @@ public class AssignmentService {
             throw new BadRequestException("Invalid access code format");
         }
 
-        // Find assignment by access code
-        Assignment assignment = assignmentRepository.findByGiverAccessCode(accessCode)
-                .orElseThrow(() -> new ResourceNotFoundException(
-                        "No assignment found for this access code. " +
-                        "Draw may not have been performed yet."
-                ));
+        if (!accessCodeFilterService.mightExist(accessCode)) {
+            throw noAssignmentFound();
+        }
+        return accessCode;
+    }
+
+    private ResourceNotFoundException noAssignmentFound() {
+        return new ResourceNotFoundException(
+                "No assignment found for this access code. " +
+                "Draw may not have been performed yet."
+        );
+    }
 
-        // Return assignment response
-        return AssignmentResponse.from(assignment);
+    /**
+     * Load the assignment from the database, must run inside a transaction
+     */
+    private Optional<RevealCacheService.Reveal> loadReveal(UUID accessCode) {
+        // Document written at draw time, returned as is
+        Optional<RevealDocumentRepository.Payload> document =
+                revealDocumentRepository.findCurrentPayload(accessCode);
+        if (document.isPresent()) {
+            return Optional.of(new RevealCacheService.Reveal(
+                    document.get().getEventId(),
+                    document.get().getRevision(),
+                    document.get().getPayload()
+            ));
+        }
+
+        // Draws made before reveal documents existed, read in a single statement
+        Optional<AssignmentRevealView> view = assignmentRepository.findRevealByGiverAccessCode(accessCode);
+        if (view.isPresent()) {
+            return Optional.of(new RevealCacheService.Reveal(
+                    view.get().eventId(),
+                    view.get().eventRevision(),
+                    revealDocumentService.serialize(AssignmentResponse.from(view.get()))
+            ));
+        }
+
+        // Fall back to a compactly stored draw
+        return viewCompactAssignment(accessCode);
+    }
+
+    /**
+     * Decode the giver's receiver from the event's permutation
+     */
+    private Optional<RevealCacheService.Reveal> viewCompactAssignment(UUID accessCode) {
+        Optional<Participant> giver = participantRepository.findByAccessCodeWithEvent(accessCode)
+                .filter(participant -> participant.getEvent().isCompactDrawStorage());
+        if (giver.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return drawPermutationService.findReceiverId(giver.get().getEvent(), giver.get().getId())
+                .flatMap(participantRepository::findById)
+                .map(receiver -> new RevealCacheService.Reveal(
+                        giver.get().getEvent().getId(),
+                        giver.get().getEvent().getRevision(),
+                        revealDocumentService.serialize(
+                                AssignmentResponse.from(giver.get(), receiver, giver.get().getEvent())
+                        )
+                ));
     }
 }
@@ -5,88 +5,122 @@ import com.secretsanta.backend.dto.request.RegisterRequest;
 import com.secretsanta.backend.dto.response.AdminResponse;
 import com.secretsanta.backend.dto.response.LoginResponse;
 import com.secretsanta.backend.exception.ConflictException;
+import com.secretsanta.backend.exception.ServiceUnavailableException;
 import com.secretsanta.backend.exception.UnauthorizedException;
 import com.secretsanta.backend.model.Admin;
 import com.secretsanta.backend.repository.AdminRepository;
+import com.secretsanta.backend.security.AdminPrincipal;
 import com.secretsanta.backend.security.JwtTokenProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class AuthService {
 
+    private static final Logger log = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private AdminRepository adminRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Autowired
-    private AuthenticationManager authenticationManager;
+    private LoginAttemptService loginAttemptService;
 
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private ThreadPoolTaskExecutor passwordStoreExecutor;
+
     /**
      * Register a new admin
+     * The password is hashed on the hashing executor and the admin saved on the store executor,
+     * neither on the request thread
      */
-    @Transactional
-    public AdminResponse register(RegisterRequest request) {
+    public CompletableFuture<AdminResponse> register(RegisterRequest request) {
         // Check if email already exists
         if (adminRepository.existsByEmail(request.getEmail())) {
             throw new ConflictException("Email already exists");
         }
 
-        // Create new admin entity
-        Admin admin = Admin.builder()
-                .name(request.getName())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .build();
+        return passwordHashingService.encode(request.getPassword()).thenApplyAsync(hash -> {
+            // Create new admin entity
+            Admin admin = Admin.builder()
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .password(hash)
+                    .build();
 
-        // Save to database
-        Admin savedAdmin = adminRepository.save(admin);
+            // Save to database
+            Admin savedAdmin = adminRepository.save(admin);
 
-        // Return response DTO
-        return AdminResponse.from(savedAdmin);
+            // Return response DTO
+            return AdminResponse.from(savedAdmin);
+        }, passwordStoreExecutor);
     }
 
     /**
      * Login and generate JWT token
+     * One admin lookup; the password is verified on the hashing executor
+     * An email from an address, or an address, with too many recent failures is refused before hashing
      */
-    @Transactional(readOnly = true)
-    public LoginResponse login(LoginRequest request) {
-        // Authenticate user
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
-
-        // Set authentication in context
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-
-        // Generate JWT token
-        String token = tokenProvider.generateToken(authentication);
-
-        // Find admin
-        Admin admin = adminRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new UnauthorizedException("Invalid credentials"));
-
-        // Return login response with token and admin info
-        return LoginResponse.builder()
-                .token(token)
-                .type("Bearer")
-                .expiresIn(tokenProvider.getExpirationMs())
-                .admin(AdminResponse.from(admin))
-                .build();
+    public CompletableFuture<LoginResponse> login(LoginRequest request, String clientAddress) {
+        loginAttemptService.checkAllowed(request.getEmail(), clientAddress);
+
+        // Find admin; an unknown email still pays for a hash check
+        Admin admin = adminRepository.findByEmail(request.getEmail()).orElse(null);
+        String storedHash = admin != null ? admin.getPassword() : null;
+
+        return passwordHashingService.matches(request.getPassword(), storedHash).thenApply(matches -> {
+            if (!matches) {
+                loginAttemptService.recordFailure(request.getEmail(), clientAddress);
+                throw new BadCredentialsException("Invalid email or password");
+            }
+            loginAttemptService.recordSuccess(request.getEmail(), clientAddress);
+
+            rehashIfNeeded(admin, request.getPassword());
+
+            // Generate JWT token carrying the admin ID
+            String token = tokenProvider.generateToken(admin.getId(), admin.getEmail());
+
+            // Return login response with token and admin info
+            return LoginResponse.builder()
+                    .token(token)
+                    .type("Bearer")
+                    .expiresIn(tokenProvider.getExpirationMs())
+                    .admin(AdminResponse.from(admin))
+                    .build();
+        });
+    }
+
+    /**
+     * Store a new hash when the configured BCrypt cost went up since the password was set
+     * Best effort and off the login's critical path; the old hash keeps working meanwhile
+     */
+    private void rehashIfNeeded(Admin admin, String rawPassword) {
+        if (!passwordHashingService.needsRehash(admin.getPassword())) {
+            return;
+        }
+        try {
+            passwordHashingService.encode(rawPassword)
+                    .thenAcceptAsync(hash -> adminRepository.updatePassword(admin.getId(), hash), passwordStoreExecutor)
+                    .exceptionally(ex -> {
+                        log.warn("Could not rehash password of admin {}", admin.getId(), ex);
+                        return null;
+                    });
+        } catch (ServiceUnavailableException e) {
+            // Hashing queue is full; retried on the next login
+        }
     }
 
     /**
@@ -100,13 +134,23 @@ public class AuthService {
         return authentication.getName();
     }
 
+    /**
+     * Get currently authenticated admin ID
+     * Read from the verified token, no database access
+     */
+    public Long getCurrentAdminId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AdminPrincipal principal)) {
+            throw new UnauthorizedException("Not authenticated");
+        }
+        return principal.id();
+    }
+
     /**
      * Get currently authenticated admin
+     * Returns a lazy reference, enough to set as an owner without a query
      */
-    @Transactional(readOnly = true)
     public Admin getCurrentAdmin() {
-        String email = getCurrentAdminEmail();
-        return adminRepository.findByEmail(email)
-                .orElseThrow(() -> new UnauthorizedException("Admin not found"));
+        return adminRepository.getReferenceById(getCurrentAdminId());
     }
 }
@@ -0,0 +1,254 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.dto.request.BatchDrawRequest;
+import com.secretsanta.backend.dto.response.BatchDrawResponse;
+import com.secretsanta.backend.dto.response.DrawResponse;
+import com.secretsanta.backend.exception.BadRequestException;
+import com.secretsanta.backend.exception.ResourceNotFoundException;
+import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.DrawStorage;
+import com.secretsanta.backend.model.DrawStrategyType;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.ExclusionRule;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.model.RevealDocument;
+import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.EventRepository;
+import com.secretsanta.backend.repository.ExclusionRuleRepository;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.repository.RevealDocumentRepository;
+import com.secretsanta.backend.service.draw.DrawConstraints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BatchDrawService {
+
+    @Autowired
+    private DrawService drawService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private EventLockService eventLockService;
+
+    @Autowired
+    private DrawPermutationService drawPermutationService;
+
+    @Autowired
+    private DrawStrategyRegistry drawStrategyRegistry;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ExclusionRuleRepository exclusionRuleRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private ForkJoinPool drawComputePool;
+
+    @Autowired
+    private RevealCacheService revealCacheService;
+
+    @Autowired
+    private RevealDocumentService revealDocumentService;
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private EventRevisionService eventRevisionService;
+
+    /**
+     * Draw several events of the current admin in one request
+     * Events are loaded, locked and checked with a handful of queries, the draws are
+     * computed in parallel and all assignments are written in batches.
+     * An event that cannot be drawn is reported in its result without failing the others.
+     */
+    @Transactional
+    public BatchDrawResponse performBatchDraw(BatchDrawRequest request) {
+        Long currentAdminId = authService.getCurrentAdminId();
+        Set<Long> eventIds = new LinkedHashSet<>(request.getEventIds());
+
+        // Lock and load every event in one statement; missing IDs belong to another admin
+        eventLockService.lockAllUntilTransactionEnds(eventIds);
+        Map<Long, Event> eventsById = eventRepository
+                .findByIdInAndAdminIdForUpdate(eventIds, currentAdminId)
+                .stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+
+        Map<Long, List<Participant>> participantsByEvent = participantRepository
+                .findByEventIdInOrderByCreatedAtAsc(eventsById.keySet())
+                .stream()
+                .collect(Collectors.groupingBy(participant -> participant.getEvent().getId()));
+        Map<Long, List<ExclusionRule>> rulesByEvent = exclusionRuleRepository
+                .findByEventIdIn(eventsById.keySet())
+                .stream()
+                .collect(Collectors.groupingBy(rule -> rule.getEvent().getId()));
+
+        // Validate and prepare each event
+        Map<Long, DrawResponse> results = new HashMap<>();
+        List<PlannedDraw> planned = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            Event event = eventsById.get(eventId);
+            if (event == null) {
+                results.put(eventId, failure(
+                        eventId, new ResourceNotFoundException("Event", "id", eventId).getMessage()
+                ));
+                continue;
+            }
+            List<Participant> participants = participantsByEvent.getOrDefault(eventId, List.of());
+            DrawConstraints constraints;
+            DrawStrategyType strategy;
+            try {
+                drawService.validateEvent(event, request.getAllowRedraw());
+                drawService.validateParticipants(participants);
+                constraints = drawService.buildConstraints(
+                        event, participants, rulesByEvent.getOrDefault(eventId, List.of())
+                );
+                strategy = drawStrategyRegistry.resolve(request.getStrategy(), constraints);
+            } catch (BadRequestException e) {
+                results.put(eventId, failure(eventId, e.getMessage()));
+                continue;
+            }
+            planned.add(new PlannedDraw(
+                    event, participants, constraints, strategy, DrawService.SEED_SOURCE.nextLong()
+            ));
+        }
+
+        // Compute all draws in parallel; this touches no database state
+        drawComputePool.submit(() -> planned.parallelStream().forEach(this::compute)).join();
+
+        // Persist successful draws, batching assignment rows across events
+        List<Assignment> pending = new ArrayList<>(DrawService.SAVE_CHUNK_SIZE);
+        List<RevealDocument> pendingDocuments = new ArrayList<>(DrawService.SAVE_CHUNK_SIZE);
+        for (PlannedDraw draw : planned) {
+            Long eventId = draw.event.getId();
+            if (draw.error != null) {
+                results.put(eventId, failure(eventId, draw.error));
+                continue;
+            }
+
+            int generation = draw.event.nextDrawGeneration();
+            if (request.getStorage() == DrawStorage.PERMUTATION) {
+                drawPermutationService.save(
+                        draw.event, generation, draw.strategy, draw.seed, draw.participants, draw.receivers
+                );
+            } else {
+                List<Assignment> assignments = drawService.buildAssignments(
+                        draw.event, draw.participants, draw.receivers, generation
+                );
+                pending.addAll(assignments);
+                pendingDocuments.addAll(revealDocumentService.buildDocuments(draw.event, assignments, generation));
+                if (pending.size() >= DrawService.SAVE_CHUNK_SIZE) {
+                    saveChunk(pending, pendingDocuments);
+                }
+            }
+            draw.event.setCurrentDrawGeneration(generation);
+            draw.event.setDrawStorage(request.getStorage());
+            eventRevisionService.bump(draw.event);
+            revealCacheService.evictEventAfterCommit(eventId);
+
+            results.put(eventId, DrawResponse.builder()
+                    .success(true)
+                    .message("Gift draw completed successfully")
+                    .eventId(eventId)
+                    .assignmentCount(draw.participants.size())
+                    .drawDate(LocalDateTime.now())
+                    .build());
+        }
+        saveChunk(pending, pendingDocuments);
+
+        List<DrawResponse> orderedResults = eventIds.stream()
+                .map(results::get)
+                .collect(Collectors.toList());
+        int succeeded = (int) orderedResults.stream()
+                .filter(DrawResponse::getSuccess)
+                .count();
+
+        return BatchDrawResponse.builder()
+                .requested(orderedResults.size())
+                .succeeded(succeeded)
+                .failed(orderedResults.size() - succeeded)
+                .results(orderedResults)
+                .build();
+    }
+
+    private void compute(PlannedDraw draw) {
+        try {
+            draw.receivers = drawService.drawReceivers(
+                    draw.participants, draw.constraints, draw.strategy, new SplittableRandom(draw.seed)
+            );
+        } catch (BadRequestException e) {
+            draw.error = e.getMessage();
+        }
+    }
+
+    private void saveChunk(List<Assignment> pending, List<RevealDocument> pendingDocuments) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        assignmentRepository.saveAll(pending);
+        revealDocumentRepository.saveAll(pendingDocuments);
+        assignmentRepository.flush();
+        pending.clear();
+        pendingDocuments.clear();
+    }
+
+    private DrawResponse failure(Long eventId, String message) {
+        return DrawResponse.builder()
+                .success(false)
+                .message(message)
+                .eventId(eventId)
+                .assignmentCount(0)
+                .build();
+    }
+
+    /**
+     * One event of a batch, filled in by a fork/join worker
+     */
+    private static final class PlannedDraw {
+
+        private final Event event;
+        private final List<Participant> participants;
+        private final DrawConstraints constraints;
+        private final DrawStrategyType strategy;
+        private final long seed;
+        private int[] receivers;
+        private String error;
+
+        private PlannedDraw(
+                Event event,
+                List<Participant> participants,
+                DrawConstraints constraints,
+                DrawStrategyType strategy,
+                long seed
+        ) {
+            this.event = event;
+            this.participants = participants;
+            this.constraints = constraints;
+            this.strategy = strategy;
+            this.seed = seed;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.DrawPermutationRepository;
+import com.secretsanta.backend.repository.EventRepository;
+import com.secretsanta.backend.repository.RevealDocumentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Service
+public class DrawGenerationCleanupService {
+
+    // Newest draw generations kept per event so a redraw can be rolled back
+    public static final int RETAINED_GENERATIONS = 2;
+
+    // Rows deleted per statement, keeps each delete transaction short
+    private static final int DELETE_CHUNK_SIZE = 5000;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private DrawPermutationRepository drawPermutationRepository;
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    /**
+     * Attach draws made before generations existed to their first generation
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLegacyDraws() {
+        eventRepository.backfillDrawGenerations();
+    }
+
+    /**
+     * Garbage-collect superseded draw generations in the background
+     * Redraws only insert rows and flip the event pointer, old rows are removed here
+     */
+    @Scheduled(
+            initialDelayString = "${draw.generations.cleanup-interval-ms:60000}",
+            fixedDelayString = "${draw.generations.cleanup-interval-ms:60000}"
+    )
+    public void deleteSupersededGenerations() {
+        int deleted;
+        do {
+            deleted = assignmentRepository.deleteSupersededGenerations(
+                    RETAINED_GENERATIONS, DELETE_CHUNK_SIZE
+            );
+        } while (deleted == DELETE_CHUNK_SIZE);
+
+        do {
+            deleted = revealDocumentRepository.deleteSupersededGenerations(
+                    RETAINED_GENERATIONS, DELETE_CHUNK_SIZE
+            );
+        } while (deleted == DELETE_CHUNK_SIZE);
+
+        // Compact draws are one row per generation, no chunking needed
+        drawPermutationRepository.deleteSupersededGenerations(RETAINED_GENERATIONS);
+    }
+}
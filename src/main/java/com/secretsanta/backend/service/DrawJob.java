@@ -0,0 +1,63 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.dto.response.DrawResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * In-memory state of an asynchronous draw
+ * Written by the draw worker thread, read by status requests
+ */
+@Getter
+public class DrawJob {
+
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final UUID id;
+    private final Long eventId;
+    private final LocalDateTime createdAt;
+
+    private volatile Status status = Status.QUEUED;
+    private volatile int progress;
+    private volatile DrawResponse result;
+    private volatile String error;
+    private volatile LocalDateTime completedAt;
+
+    public DrawJob(Long eventId) {
+        this.id = UUID.randomUUID();
+        this.eventId = eventId;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    void start() {
+        status = Status.RUNNING;
+    }
+
+    void reportProgress(int percent) {
+        progress = Math.max(progress, Math.min(percent, 100));
+    }
+
+    void complete(DrawResponse response) {
+        result = response;
+        progress = 100;
+        completedAt = LocalDateTime.now();
+        status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        completedAt = LocalDateTime.now();
+        status = Status.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+}
@@ -0,0 +1,102 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.dto.request.DrawRequest;
+import com.secretsanta.backend.dto.response.DrawJobResponse;
+import com.secretsanta.backend.dto.response.DrawResponse;
+import com.secretsanta.backend.exception.BadRequestException;
+import com.secretsanta.backend.exception.ConflictException;
+import com.secretsanta.backend.exception.ResourceNotFoundException;
+import com.secretsanta.backend.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class DrawJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(DrawJobService.class);
+
+    @Autowired
+    private DrawService drawService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor drawExecutor;
+
+    @Value("${draw.async.job-retention-ms:3600000}")
+    private long jobRetentionMs;
+
+    private final Map<UUID, DrawJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Submit a draw to run in the background
+     * Ownership is verified up front so the caller gets an immediate 404
+     */
+    public DrawJobResponse submitDraw(Long eventId, DrawRequest request) {
+        eventService.findEventByIdAndVerifyOwnership(eventId);
+
+        DrawJob job = new DrawJob(eventId);
+        jobs.put(job.getId(), job);
+
+        // The worker runs as the submitting admin
+        Runnable task = new DelegatingSecurityContextRunnable(() -> runDraw(job, request));
+        try {
+            drawExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            jobs.remove(job.getId());
+            throw new ServiceUnavailableException(
+                    "Too many draws in progress. Please try again shortly."
+            );
+        }
+
+        return DrawJobResponse.from(job);
+    }
+
+    /**
+     * Get status of a draw job
+     */
+    public DrawJobResponse getJob(Long eventId, UUID jobId) {
+        eventService.findEventByIdAndVerifyOwnership(eventId);
+
+        DrawJob job = jobs.get(jobId);
+        if (job == null || !job.getEventId().equals(eventId)) {
+            throw new ResourceNotFoundException("Draw job", "id", jobId);
+        }
+        return DrawJobResponse.from(job);
+    }
+
+    private void runDraw(DrawJob job, DrawRequest request) {
+        job.start();
+        try {
+            DrawResponse response = drawService.performDraw(job.getEventId(), request, job::reportProgress);
+            job.complete(response);
+        } catch (BadRequestException | ConflictException | ResourceNotFoundException e) {
+            job.fail(e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Draw job {} for event {} failed", job.getId(), job.getEventId(), e);
+            job.fail("An unexpected error occurred");
+        }
+    }
+
+    /**
+     * Forget finished jobs once their retention period is over
+     */
+    @Scheduled(fixedDelayString = "${draw.async.cleanup-interval-ms:300000}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(jobRetentionMs * 1_000_000);
+        jobs.values().removeIf(job -> job.isFinished() && job.getCompletedAt().isBefore(cutoff));
+    }
+}
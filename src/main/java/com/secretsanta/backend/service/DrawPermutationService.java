@@ -0,0 +1,110 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.model.DrawPermutation;
+import com.secretsanta.backend.model.DrawStrategyType;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.DrawPermutationRepository;
+import com.secretsanta.backend.service.draw.PermutationCodec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class DrawPermutationService {
+
+    @Autowired
+    private DrawPermutationRepository drawPermutationRepository;
+
+    /**
+     * Store a draw as a compact permutation
+     */
+    @Transactional
+    public DrawPermutation save(
+            Event event,
+            int generation,
+            DrawStrategyType strategy,
+            long seed,
+            List<Participant> participants,
+            int[] receivers
+    ) {
+        long[] ids = new long[participants.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = participants.get(i).getId();
+        }
+
+        DrawPermutation permutation = DrawPermutation.builder()
+                .event(event)
+                .generation(generation)
+                .strategy(strategy)
+                .seed(seed)
+                .participantIds(PermutationCodec.encodeIds(ids))
+                .receiverIndexes(PermutationCodec.encodeIndexes(receivers))
+                .build();
+        return drawPermutationRepository.save(permutation);
+    }
+
+    /**
+     * Find who a giver is giving to in the event's current compact draw
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findReceiverId(Event event, Long giverId) {
+        return findCurrent(event).flatMap(permutation -> {
+            long[] ids = PermutationCodec.decodeIds(permutation.getParticipantIds());
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == giverId) {
+                    int receiver = PermutationCodec.indexAt(permutation.getReceiverIndexes(), i);
+                    return Optional.of(ids[receiver]);
+                }
+            }
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Number of assignments in a compactly stored generation, empty if it does not exist
+     */
+    @Transactional(readOnly = true)
+    public Optional<Integer> countAssignments(Long eventId, int generation) {
+        return drawPermutationRepository.findByEventIdAndGeneration(eventId, generation)
+                .map(permutation -> PermutationCodec.indexCount(permutation.getReceiverIndexes()));
+    }
+
+    /**
+     * Which of the given participants are part of the event's current compact draw
+     * Streams through the stored IDs once, holding only the given IDs in memory
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findDrawnIds(Event event, Collection<Long> participantIds) {
+        Set<Long> wanted = new HashSet<>(participantIds);
+        Set<Long> drawn = new HashSet<>();
+        if (wanted.isEmpty()) {
+            return drawn;
+        }
+        findCurrent(event).ifPresent(permutation -> PermutationCodec.scanIds(
+                permutation.getParticipantIds(),
+                id -> {
+                    if (wanted.contains(id)) {
+                        drawn.add(id);
+                    }
+                    return drawn.size() < wanted.size();
+                }
+        ));
+        return drawn;
+    }
+
+    private Optional<DrawPermutation> findCurrent(Event event) {
+        if (!event.hasDrawBeenPerformed()) {
+            return Optional.empty();
+        }
+        return drawPermutationRepository.findByEventIdAndGeneration(
+                event.getId(), event.getCurrentDrawGeneration()
+        );
+    }
+}
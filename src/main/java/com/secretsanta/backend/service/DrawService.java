@@ -4,17 +4,29 @@ import com.secretsanta.backend.dto.request.DrawRequest;
 import com.secretsanta.backend.dto.response.DrawResponse;
 import com.secretsanta.backend.exception.BadRequestException;
 import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.DrawStorage;
+import com.secretsanta.backend.model.DrawStrategyType;
 import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.ExclusionRule;
 import com.secretsanta.backend.model.Participant;
 import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.RevealDocumentRepository;
+import com.secretsanta.backend.service.draw.DrawConstraints;
+import com.secretsanta.backend.service.draw.InfeasibleDrawException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
+import java.util.random.RandomGenerator;
 
 @Service
 public class DrawService {
@@ -25,11 +37,38 @@ public class DrawService {
     @Autowired
     private ParticipantService participantService;
 
+    @Autowired
+    private ExclusionRuleService exclusionRuleService;
+
     @Autowired
     private AssignmentRepository assignmentRepository;
 
-    // Maximum retry attempts for draw algorithm
-    private static final int MAX_DRAW_ATTEMPTS = 100;
+    @Autowired
+    private DrawPermutationService drawPermutationService;
+
+    @Autowired
+    private DrawStrategyRegistry drawStrategyRegistry;
+
+    @Autowired
+    private RevealCacheService revealCacheService;
+
+    @Autowired
+    private RevealDocumentService revealDocumentService;
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private EventRevisionService eventRevisionService;
+
+    // Source of draw seeds; the seed itself is kept with compactly stored draws
+    static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    // Maximum participant names listed when a draw is impossible
+    private static final int MAX_REPORTED_NAMES = 10;
+
+    // Assignments flushed per chunk, so progress can be reported while persisting
+    static final int SAVE_CHUNK_SIZE = 5000;
 
     /**
      * Perform the Secret Santa draw
@@ -37,101 +76,215 @@ public class DrawService {
      */
     @Transactional
     public DrawResponse performDraw(Long eventId, DrawRequest request) {
-        Event event = eventService.findEventByIdAndVerifyOwnership(eventId);
+        return performDraw(eventId, request, progress -> { });
+    }
 
+    /**
+     * Perform the Secret Santa draw, reporting progress as a percentage
+     * Used by asynchronous draw jobs
+     */
+    @Transactional
+    public DrawResponse performDraw(Long eventId, DrawRequest request, IntConsumer progress) {
+        // Concurrent draws and participant changes on this event wait here
+        Event event = eventService.lockEventForChange(eventId);
+        validateEvent(event, request.getAllowRedraw());
+        progress.accept(5);
+
+        // Get all participants
+        List<Participant> participants = participantService.getParticipantEntities(eventId);
+        progress.accept(20);
+        validateParticipants(participants);
+
+        // Build constraints from exclusion rules
+        DrawConstraints constraints = buildConstraints(
+                event, participants, exclusionRuleService.getRuleEntities(eventId)
+        );
+
+        // Perform the draw into a new generation; a previous draw stays untouched
+        int generation = event.nextDrawGeneration();
+        DrawStrategyType strategy = drawStrategyRegistry.resolve(request.getStrategy(), constraints);
+        long seed = SEED_SOURCE.nextLong();
+        int[] receivers = drawReceivers(
+                participants, constraints, strategy, new SplittableRandom(seed)
+        );
+        progress.accept(40);
+
+        if (request.getStorage() == DrawStorage.PERMUTATION) {
+            // Store the whole draw as a single compact row
+            drawPermutationService.save(event, generation, strategy, seed, participants, receivers);
+        } else {
+            // Save all assignments with their serialized reveals in chunks
+            List<Assignment> assignments = buildAssignments(event, participants, receivers, generation);
+            for (int from = 0; from < assignments.size(); from += SAVE_CHUNK_SIZE) {
+                int to = Math.min(from + SAVE_CHUNK_SIZE, assignments.size());
+                List<Assignment> chunk = assignments.subList(from, to);
+                assignmentRepository.saveAll(chunk);
+                revealDocumentRepository.saveAll(revealDocumentService.buildDocuments(event, chunk, generation));
+                assignmentRepository.flush();
+                progress.accept(40 + (int) (55L * to / assignments.size()));
+            }
+        }
+
+        // Activate the new generation; superseded ones are cleaned up in the background
+        event.setCurrentDrawGeneration(generation);
+        event.setDrawStorage(request.getStorage());
+        eventRevisionService.bump(event);
+        revealCacheService.evictEventAfterCommit(eventId);
+
+        // Return response
+        return DrawResponse.builder()
+                .success(true)
+                .message("Gift draw completed successfully")
+                .eventId(eventId)
+                .assignmentCount(participants.size())
+                .drawDate(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Check that the event accepts a (re)draw
+     */
+    void validateEvent(Event event, Boolean allowRedraw) {
         // Validation: Check if event is locked
         if (event.getIsLocked()) {
             throw new BadRequestException("Cannot perform draw on locked event");
         }
 
         // Validation: Check if draw already exists
-        boolean drawExists = assignmentRepository.existsByEventId(eventId);
-        if (drawExists && !request.getAllowRedraw()) {
+        if (event.hasDrawBeenPerformed() && !Boolean.TRUE.equals(allowRedraw)) {
             throw new BadRequestException(
                     "Draw already exists for this event. Set allowRedraw to true to redraw."
             );
         }
+    }
 
-        // Get all participants
-        List<Participant> participants = participantService.getParticipantEntities(eventId);
-
+    /**
+     * Check that there are enough participants for a draw
+     */
+    void validateParticipants(List<Participant> participants) {
         // Validation: Minimum 3 participants required
         if (participants.size() < 3) {
             throw new BadRequestException(
                     "Minimum 3 participants required. Current count: " + participants.size()
             );
         }
+    }
 
-        // If redraw is allowed, delete existing assignments
-        if (drawExists && request.getAllowRedraw()) {
-            assignmentRepository.deleteByEventId(eventId);
+    /**
+     * Roll back to the previous draw
+     * Flips the event back to the preceding draw generation if it is still retained
+     */
+    @Transactional
+    public DrawResponse rollbackDraw(Long eventId) {
+        Event event = eventService.lockEventForChange(eventId);
+
+        // Validation: Check if event is locked
+        if (event.getIsLocked()) {
+            throw new BadRequestException("Cannot roll back draw on locked event");
         }
 
-        // Perform the draw with retry logic
-        List<Assignment> assignments = performDrawWithRetry(event, participants);
+        if (!event.hasDrawBeenPerformed()) {
+            throw new BadRequestException("No draw has been performed for this event");
+        }
 
-        // Save all assignments
-        assignmentRepository.saveAll(assignments);
+        int previousGeneration = event.getCurrentDrawGeneration() - 1;
+        if (previousGeneration < 1) {
+            throw new BadRequestException("No previous draw available to roll back to");
+        }
+
+        // The previous generation may have been stored either way
+        int assignmentCount;
+        Optional<Integer> compactCount = drawPermutationService.countAssignments(eventId, previousGeneration);
+        if (compactCount.isPresent()) {
+            assignmentCount = compactCount.get();
+            event.setDrawStorage(DrawStorage.PERMUTATION);
+        } else if (assignmentRepository.existsByEventIdAndGeneration(eventId, previousGeneration)) {
+            assignmentCount = (int) assignmentRepository.countByEventIdAndGeneration(eventId, previousGeneration);
+            event.setDrawStorage(DrawStorage.ROWS);
+            // Event details may have changed since this draw was made
+            revealDocumentService.rewrite(event, previousGeneration);
+        } else {
+            throw new BadRequestException("No previous draw available to roll back to");
+        }
+
+        event.setCurrentDrawGeneration(previousGeneration);
+        eventRevisionService.bump(event);
+        revealCacheService.evictEventAfterCommit(eventId);
 
-        // Return response
         return DrawResponse.builder()
                 .success(true)
-                .message("Gift draw completed successfully")
+                .message("Rolled back to previous draw")
                 .eventId(eventId)
-                .assignmentCount(assignments.size())
+                .assignmentCount(assignmentCount)
                 .drawDate(LocalDateTime.now())
                 .build();
     }
 
     /**
-     * Perform draw with retry logic
-     * Retries if invalid assignment is generated (e.g., self-assignment)
+     * Translate exclusion rules into index-based draw constraints
      */
-    private List<Assignment> performDrawWithRetry(Event event, List<Participant> participants) {
-        for (int attempt = 1; attempt <= MAX_DRAW_ATTEMPTS; attempt++) {
-            try {
-                return generateAssignments(event, participants);
-            } catch (IllegalStateException e) {
-                // Retry on failure
-                if (attempt == MAX_DRAW_ATTEMPTS) {
-                    throw new BadRequestException(
-                            "Failed to generate valid draw after " + MAX_DRAW_ATTEMPTS +
-                            " attempts. Please try again."
-                    );
-                }
+    DrawConstraints buildConstraints(
+            Event event,
+            List<Participant> participants,
+            List<ExclusionRule> rules
+    ) {
+        Map<Long, Integer> indexById = new HashMap<>(participants.size() * 2);
+        for (int i = 0; i < participants.size(); i++) {
+            indexById.put(participants.get(i).getId(), i);
+        }
+
+        DrawConstraints.Builder builder = DrawConstraints.builder(participants.size())
+                .preventReciprocal(event.isReciprocalPrevented());
+
+        for (ExclusionRule rule : rules) {
+            Integer giver = indexById.get(rule.getGiver().getId());
+            Integer receiver = indexById.get(rule.getReceiver().getId());
+            if (giver == null || receiver == null) {
+                continue;
+            }
+            if (Boolean.FALSE.equals(rule.getMutual())) {
+                builder.forbid(giver, receiver);
+            } else {
+                builder.forbidMutual(giver, receiver);
             }
         }
-        throw new BadRequestException("Draw failed unexpectedly");
+
+        return builder.build();
     }
 
     /**
-     * Generate assignments using derangement algorithm
-     * Ensures no participant gives to themselves
+     * Draw receiver indexes (result[giver] = receiver) with the given strategy and random generator
+     * The same strategy, seed and participant order always produce the same draw
      */
-    private List<Assignment> generateAssignments(Event event, List<Participant> participants) {
-        List<Assignment> assignments = new ArrayList<>();
-
-        // Create two lists: givers and receivers
-        List<Participant> givers = new ArrayList<>(participants);
-        List<Participant> receivers = new ArrayList<>(participants);
-
-        // Shuffle receivers
-        Collections.shuffle(receivers);
-
-        // Verify no one is assigned to themselves (derangement check)
-        for (int i = 0; i < givers.size(); i++) {
-            if (givers.get(i).getId().equals(receivers.get(i).getId())) {
-                // Invalid assignment found, throw exception to retry
-                throw new IllegalStateException("Self-assignment detected");
-            }
+    int[] drawReceivers(
+            List<Participant> participants,
+            DrawConstraints constraints,
+            DrawStrategyType strategy,
+            RandomGenerator random
+    ) {
+        try {
+            return drawStrategyRegistry.draw(strategy, constraints, random);
+        } catch (InfeasibleDrawException e) {
+            throw new BadRequestException(describeInfeasibleDraw(e, participants));
         }
+    }
 
-        // Create assignments
-        for (int i = 0; i < givers.size(); i++) {
+    /**
+     * Turn receiver indexes into assignment entities
+     */
+    List<Assignment> buildAssignments(
+            Event event,
+            List<Participant> participants,
+            int[] receivers,
+            int generation
+    ) {
+        List<Assignment> assignments = new ArrayList<>(participants.size());
+        for (int i = 0; i < participants.size(); i++) {
             Assignment assignment = Assignment.builder()
                     .event(event)
-                    .giver(givers.get(i))
-                    .receiver(receivers.get(i))
+                    .giver(participants.get(i))
+                    .receiver(participants.get(receivers[i]))
+                    .generation(generation)
                     .build();
             assignments.add(assignment);
         }
@@ -140,30 +293,30 @@ public class DrawService {
     }
 
     /**
-     * Alternative draw algorithm: Circular shift
-     * More predictable but less random
+     * Build a readable explanation of why no valid draw exists
      */
-    @SuppressWarnings("unused")
-    private List<Assignment> generateAssignmentsCircular(Event event, List<Participant> participants) {
-        List<Assignment> assignments = new ArrayList<>();
-
-        // Shuffle participants first
-        List<Participant> shuffled = new ArrayList<>(participants);
-        Collections.shuffle(shuffled);
-
-        // Each person gives to the next person in the circle
-        for (int i = 0; i < shuffled.size(); i++) {
-            Participant giver = shuffled.get(i);
-            Participant receiver = shuffled.get((i + 1) % shuffled.size());
+    private String describeInfeasibleDraw(InfeasibleDrawException e, List<Participant> participants) {
+        String outcome = e.isConclusive() ? "No valid draw exists" : "No valid draw could be found";
+        return outcome + " with the current rules: " + e.getMessage() + ". " +
+                "Participants: " + describeParticipants(e.getGivers(), participants) + ". " +
+                "Available recipients: " + describeParticipants(e.getReceivers(), participants) + ". " +
+                "Remove some exclusion rules for these participants and try again.";
+    }
 
-            Assignment assignment = Assignment.builder()
-                    .event(event)
-                    .giver(giver)
-                    .receiver(receiver)
-                    .build();
-            assignments.add(assignment);
+    private String describeParticipants(int[] indexes, List<Participant> participants) {
+        if (indexes.length == 0) {
+            return "none";
         }
-
-        return assignments;
+        StringBuilder names = new StringBuilder();
+        for (int i = 0; i < indexes.length && i < MAX_REPORTED_NAMES; i++) {
+            if (i > 0) {
+                names.append(", ");
+            }
+            names.append(participants.get(indexes[i]).getName());
+        }
+        if (indexes.length > MAX_REPORTED_NAMES) {
+            names.append(" and ").append(indexes.length - MAX_REPORTED_NAMES).append(" more");
+        }
+        return names.toString();
     }
 }
@@ -0,0 +1,99 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.exception.BadRequestException;
+import com.secretsanta.backend.model.DrawStrategyType;
+import com.secretsanta.backend.service.draw.DrawConstraints;
+import com.secretsanta.backend.service.draw.DrawStrategy;
+import com.secretsanta.backend.service.draw.InfeasibleDrawException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+@Service
+public class DrawStrategyRegistry {
+
+    @Autowired
+    private List<DrawStrategy> strategies;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<DrawStrategyType, DrawStrategy> strategiesByType = new EnumMap<>(DrawStrategyType.class);
+
+    @PostConstruct
+    void indexStrategies() {
+        for (DrawStrategy strategy : strategies) {
+            strategiesByType.put(strategy.getType(), strategy);
+        }
+    }
+
+    /**
+     * Strategy a draw with these constraints runs with, so it can be stored alongside the seed
+     */
+    public DrawStrategyType resolve(DrawStrategyType requested, DrawConstraints constraints) {
+        return select(requested, constraints).getType();
+    }
+
+    /**
+     * Run a draw with the requested strategy, or the cheapest one that fits the constraints
+     * Execution time is recorded per strategy, size bucket and outcome as draw.strategy.duration
+     *
+     * @throws InfeasibleDrawException if no valid assignment exists
+     */
+    public int[] draw(DrawStrategyType requested, DrawConstraints constraints, RandomGenerator random) {
+        DrawStrategy strategy = select(requested, constraints);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return strategy.draw(constraints, random);
+        } catch (InfeasibleDrawException e) {
+            outcome = "infeasible";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("draw.strategy.duration")
+                    .description("Time spent computing a draw")
+                    .tag("strategy", strategy.getType().name().toLowerCase())
+                    .tag("size", sizeBucket(constraints.size()))
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private DrawStrategy select(DrawStrategyType requested, DrawConstraints constraints) {
+        DrawStrategyType type = requested;
+        if (type == null) {
+            type = constraints.isUnconstrained() ? DrawStrategyType.RANDOM : DrawStrategyType.CONSTRAINED;
+        }
+
+        DrawStrategy strategy = strategiesByType.get(type);
+        if (strategy == null) {
+            throw new BadRequestException("Unknown draw strategy: " + type);
+        }
+        if (!strategy.supports(constraints)) {
+            throw new BadRequestException(
+                    "The " + type + " draw strategy does not support this event's exclusion rules. " +
+                    "Use " + DrawStrategyType.CONSTRAINED + " instead."
+            );
+        }
+        return strategy;
+    }
+
+    /**
+     * Order-of-magnitude bucket of the participant count, keeps metric cardinality low
+     */
+    private static String sizeBucket(int participantCount) {
+        long bound = 10;
+        while (bound < participantCount) {
+            bound *= 10;
+        }
+        return "<=" + bound;
+    }
+}
@@ -0,0 +1,86 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.exception.ConflictException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Service
+public class EventLockService {
+
+    // Power of two so the stripe is picked with a mask
+    private static final int STRIPE_COUNT = 256;
+
+    private final ReentrantLock[] stripes = new ReentrantLock[STRIPE_COUNT];
+
+    @Value("${events.lock-timeout-ms:10000}")
+    private long lockTimeoutMs;
+
+    public EventLockService() {
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Serialize changes to one event within this instance until the current transaction ends
+     * Waiting requests queue here instead of on the database row lock
+     * Must be called inside a transaction
+     */
+    public void lockUntilTransactionEnds(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Event lock requires an active transaction");
+        }
+
+        ReentrantLock lock = stripeFor(eventId);
+        try {
+            if (!lock.tryLock(lockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new ConflictException(
+                        "Another change to this event is in progress. Please try again."
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("Interrupted while waiting for the event lock");
+        }
+
+        // Release on the same thread once the transaction commits or rolls back
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Lock several events until the current transaction ends
+     * Stripes are taken in index order so overlapping batches cannot deadlock
+     */
+    public void lockAllUntilTransactionEnds(Collection<Long> eventIds) {
+        SortedMap<Integer, Long> eventByStripe = new TreeMap<>();
+        for (Long eventId : eventIds) {
+            eventByStripe.putIfAbsent(stripeIndex(eventId), eventId);
+        }
+        for (Long eventId : eventByStripe.values()) {
+            lockUntilTransactionEnds(eventId);
+        }
+    }
+
+    private ReentrantLock stripeFor(Long eventId) {
+        return stripes[stripeIndex(eventId)];
+    }
+
+    private int stripeIndex(Long eventId) {
+        int hash = Long.hashCode(eventId);
+        hash ^= hash >>> 16;
+        return hash & (STRIPE_COUNT - 1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.secretsanta.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class EventRevisionService {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${events.revision-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${events.revision-cache.ttl-ms:600000}")
+    private long ttlMs;
+
+    // Bumped on every eviction; a lookup that overlaps one does not stay cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private Cache<Long, CachedRevision> cache;
+
+    @PostConstruct
+    void buildCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    /**
+     * Current revision of an event owned by this admin
+     * Served from memory when cached, otherwise one indexed lookup
+     */
+    public Optional<Long> findRevision(Long eventId, Long adminId) {
+        CachedRevision cached = cache.getIfPresent(eventId);
+        if (cached != null) {
+            return cached.adminId().equals(adminId) ? Optional.of(cached.revision()) : Optional.empty();
+        }
+
+        long stamp = invalidations.get();
+        Optional<Long> revision = eventRepository.findRevisionByIdAndAdminId(eventId, adminId);
+        revision.ifPresent(value -> {
+            // Put first, then re-check: an eviction either runs after the put and removes it,
+            // or bumped the stamp before the check below, which takes the stale revision back out
+            cache.put(eventId, new CachedRevision(adminId, value));
+            if (invalidations.get() != stamp) {
+                cache.invalidate(eventId);
+            }
+        });
+        return revision;
+    }
+
+    /**
+     * Record a change to the event, invalidating its ETags once the transaction commits
+     */
+    public void bump(Event event) {
+        event.bumpRevision();
+        evictAfterCommit(event.getId());
+    }
+
+    /**
+     * Forget the cached revision of an event once the current transaction commits
+     */
+    public void evictAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(eventId);
+            }
+        });
+    }
+
+    private void evict(Long eventId) {
+        invalidations.incrementAndGet();
+        cache.invalidate(eventId);
+    }
+
+    private record CachedRevision(Long adminId, long revision) {
+    }
+}
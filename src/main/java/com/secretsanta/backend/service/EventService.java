@@ -3,17 +3,24 @@ package com.secretsanta.backend.service;
 import com.secretsanta.backend.dto.request.CreateEventRequest;
 import com.secretsanta.backend.dto.request.LockEventRequest;
 import com.secretsanta.backend.dto.request.UpdateEventRequest;
+import com.secretsanta.backend.dto.response.CursorPageResponse;
 import com.secretsanta.backend.dto.response.EventDetailResponse;
 import com.secretsanta.backend.dto.response.EventResponse;
+import com.secretsanta.backend.dto.response.ParticipantResponse;
 import com.secretsanta.backend.exception.BadRequestException;
 import com.secretsanta.backend.exception.ResourceNotFoundException;
 import com.secretsanta.backend.model.Admin;
 import com.secretsanta.backend.model.Event;
 import com.secretsanta.backend.repository.EventRepository;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.repository.projection.EventParticipantCount;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -21,24 +28,77 @@ import java.util.stream.Collectors;
 @Service
 public class EventService {
 
+    // Largest page GET /api/events returns
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private ParticipantPageService participantPageService;
+
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private EventLockService eventLockService;
+
+    @Autowired
+    private RevealCacheService revealCacheService;
+
+    @Autowired
+    private RevealWarmupService revealWarmupService;
+
+    @Autowired
+    private RevealDocumentService revealDocumentService;
+
+    @Autowired
+    private EventRevisionService eventRevisionService;
+
     /**
-     * Get all events for current admin
+     * Get one page of the current admin's events, newest first
+     * Two queries per page: the events, then their participant counts grouped in one statement
      */
     @Transactional(readOnly = true)
-    public List<EventResponse> getAllEvents() {
-        Admin currentAdmin = authService.getCurrentAdmin();
-        List<Event> events = eventRepository.findByAdminIdOrderByCreatedAtDesc(
-                currentAdmin.getId()
-        );
-        return events.stream()
-                .map(EventResponse::from)
+    public CursorPageResponse<EventResponse> getAllEvents(String cursor, int limit) {
+        Long adminId = authService.getCurrentAdminId();
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageCursor after = PageCursor.decode(cursor);
+
+        // One extra row tells whether another page follows
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Event> events = after == null
+                ? eventRepository.findPageByAdminId(adminId, pageable)
+                : eventRepository.findPageByAdminIdAfter(adminId, after.createdAt(), after.id(), pageable);
+
+        boolean hasMore = events.size() > pageSize;
+        if (hasMore) {
+            events = events.subList(0, pageSize);
+        }
+
+        Map<Long, Long> participantCounts = new HashMap<>();
+        if (!events.isEmpty()) {
+            List<Long> eventIds = events.stream().map(Event::getId).collect(Collectors.toList());
+            for (EventParticipantCount count : participantRepository.countByEventIds(eventIds)) {
+                participantCounts.put(count.eventId(), count.participantCount());
+            }
+        }
+
+        List<EventResponse> items = events.stream()
+                .map(event -> EventResponse.from(
+                        event, participantCounts.getOrDefault(event.getId(), 0L).intValue()
+                ))
                 .collect(Collectors.toList());
+
+        Event last = events.isEmpty() ? null : events.get(events.size() - 1);
+        return CursorPageResponse.<EventResponse>builder()
+                .items(items)
+                .nextCursor(hasMore ? new PageCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
     }
 
     /**
@@ -54,21 +114,36 @@ public class EventService {
                 .drawDate(request.getDrawDate())
                 .budget(request.getBudget())
                 .isLocked(false)
+                .preventReciprocal(Boolean.TRUE.equals(request.getPreventReciprocal()))
                 .admin(currentAdmin)
                 .build();
 
         Event savedEvent = eventRepository.save(event);
-        return EventResponse.from(savedEvent);
+        // A new event has no participants yet
+        return EventResponse.from(savedEvent, 0);
     }
 
     /**
      * Get event details by ID
-     * Includes participants
+     * Includes the participant count and the first page of participants
      */
     @Transactional(readOnly = true)
-    public EventDetailResponse getEventById(Long eventId) {
+    public EventDetailResponse getEventById(Long eventId, Integer participantLimit) {
         Event event = findEventByIdAndVerifyOwnership(eventId);
-        return EventDetailResponse.from(event);
+        CursorPageResponse<ParticipantResponse> firstPage =
+                participantPageService.findPage(event, null, participantLimit);
+        return EventDetailResponse.from(event, firstPage, participantRepository.countByEventId(eventId));
+    }
+
+    /**
+     * Current revision of an event, used as its ETag
+     * Verifies ownership without loading the event or the admin
+     */
+    public long getEventRevision(Long eventId) {
+        return eventRevisionService.findRevision(eventId, authService.getCurrentAdminId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Event", "id", eventId
+                ));
     }
 
     /**
@@ -77,7 +152,8 @@ public class EventService {
      */
     @Transactional
     public EventResponse updateEvent(Long eventId, UpdateEventRequest request) {
-        Event event = findEventByIdAndVerifyOwnership(eventId);
+        // Held exclusively, saving a stale copy would roll back a concurrent draw's generation
+        Event event = lockEventForChange(eventId);
 
         // Check if event can be modified
         if (!event.canBeModified()) {
@@ -97,9 +173,19 @@ public class EventService {
         if (request.getBudget() != null) {
             event.setBudget(request.getBudget());
         }
+        if (request.getPreventReciprocal() != null) {
+            event.setPreventReciprocal(request.getPreventReciprocal());
+        }
 
+        eventRevisionService.bump(event);
         Event updatedEvent = eventRepository.save(event);
-        return EventResponse.from(updatedEvent);
+
+        // Reveals embed the event details, rebuild the current draw's documents
+        if (event.hasDrawBeenPerformed() && !event.isCompactDrawStorage()) {
+            revealDocumentService.rewrite(event, event.getCurrentDrawGeneration());
+        }
+        revealCacheService.evictEventAfterCommit(eventId);
+        return EventResponse.from(updatedEvent, (int) participantRepository.countByEventId(eventId));
     }
 
     /**
@@ -108,7 +194,7 @@ public class EventService {
      */
     @Transactional
     public void deleteEvent(Long eventId) {
-        Event event = findEventByIdAndVerifyOwnership(eventId);
+        Event event = lockEventForChange(eventId);
 
         // Check if event can be deleted
         if (event.getIsLocked() && event.hasDrawBeenPerformed()) {
@@ -118,6 +204,8 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        revealCacheService.evictEventAfterCommit(eventId);
+        eventRevisionService.evictAfterCommit(eventId);
     }
 
     /**
@@ -125,7 +213,7 @@ public class EventService {
      */
     @Transactional
     public Map<String, Object> lockEvent(Long eventId, LockEventRequest request) {
-        Event event = findEventByIdAndVerifyOwnership(eventId);
+        Event event = lockEventForChange(eventId);
 
         // If locking, verify draw has been performed
         if (request.getLocked() && !event.hasDrawBeenPerformed()) {
@@ -133,8 +221,14 @@ public class EventService {
         }
 
         event.setIsLocked(request.getLocked());
+        eventRevisionService.bump(event);
         eventRepository.save(event);
 
+        // Participants open their links right after the announcement, serve them from memory
+        if (event.getIsLocked()) {
+            revealWarmupService.warmEventAfterCommit(eventId);
+        }
+
         return Map.of(
                 "id", event.getId(),
                 "isLocked", event.getIsLocked(),
@@ -148,8 +242,22 @@ public class EventService {
      */
     @Transactional(readOnly = true)
     public Event findEventByIdAndVerifyOwnership(Long eventId) {
-        Admin currentAdmin = authService.getCurrentAdmin();
-        return eventRepository.findByIdAndAdminId(eventId, currentAdmin.getId())
+        return eventRepository.findByIdAndAdminId(eventId, authService.getCurrentAdminId())
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Event", "id", eventId
+                ));
+    }
+
+    /**
+     * Find event, verify ownership and hold it exclusively until the transaction ends
+     * Draws, edits and participant or rule changes on the same event run one at a time,
+     * first on an in-process lock and then on the event row for other instances
+     */
+    @Transactional
+    public Event lockEventForChange(Long eventId) {
+        Long currentAdminId = authService.getCurrentAdminId();
+        eventLockService.lockUntilTransactionEnds(eventId);
+        return eventRepository.findByIdAndAdminIdForUpdate(eventId, currentAdminId)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Event", "id", eventId
                 ));
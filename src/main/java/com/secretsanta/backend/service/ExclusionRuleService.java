@@ -0,0 +1,117 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.dto.request.AddExclusionRuleRequest;
+import com.secretsanta.backend.dto.response.ExclusionRuleResponse;
+import com.secretsanta.backend.exception.BadRequestException;
+import com.secretsanta.backend.exception.ConflictException;
+import com.secretsanta.backend.exception.ResourceNotFoundException;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.ExclusionRule;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.ExclusionRuleRepository;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+public class ExclusionRuleService {
+
+    @Autowired
+    private ExclusionRuleRepository exclusionRuleRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    /**
+     * Add exclusion rule to event
+     * Giver will never be drawn to give to receiver (and vice versa when mutual)
+     */
+    @Transactional
+    public ExclusionRuleResponse addRule(Long eventId, AddExclusionRuleRequest request) {
+        Event event = eventService.lockEventForChange(eventId);
+
+        // Check if event is locked
+        if (!event.canBeModified()) {
+            throw new BadRequestException("Cannot add exclusion rules to locked event");
+        }
+
+        if (request.getGiverId().equals(request.getReceiverId())) {
+            throw new BadRequestException("Participant cannot be excluded from themselves");
+        }
+
+        Participant giver = participantRepository.findByIdAndEventId(request.getGiverId(), eventId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Participant", "id", request.getGiverId()
+                ));
+        Participant receiver = participantRepository.findByIdAndEventId(request.getReceiverId(), eventId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Participant", "id", request.getReceiverId()
+                ));
+
+        // Check if the same rule already exists
+        if (exclusionRuleRepository.existsByEventIdAndGiverIdAndReceiverId(
+                eventId, giver.getId(), receiver.getId())) {
+            throw new ConflictException("Exclusion rule already exists for these participants");
+        }
+
+        ExclusionRule rule = ExclusionRule.builder()
+                .event(event)
+                .giver(giver)
+                .receiver(receiver)
+                .mutual(request.getMutual() == null || request.getMutual())
+                .build();
+
+        ExclusionRule savedRule = exclusionRuleRepository.save(rule);
+        return ExclusionRuleResponse.from(savedRule);
+    }
+
+    /**
+     * Get all exclusion rules for an event
+     */
+    @Transactional(readOnly = true)
+    public List<ExclusionRuleResponse> getRules(Long eventId) {
+        // Verify ownership
+        eventService.findEventByIdAndVerifyOwnership(eventId);
+
+        return exclusionRuleRepository.findByEventIdWithParticipants(eventId).stream()
+                .map(ExclusionRuleResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Remove exclusion rule
+     * Only allowed if event is not locked
+     */
+    @Transactional
+    public void removeRule(Long ruleId) {
+        ExclusionRule rule = exclusionRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Exclusion rule", "id", ruleId
+                ));
+
+        // Verify admin owns the event
+        Event event = eventService.lockEventForChange(rule.getEvent().getId());
+
+        // Check if event is locked
+        if (!event.canBeModified()) {
+            throw new BadRequestException("Cannot remove exclusion rules from locked event");
+        }
+
+        exclusionRuleRepository.delete(rule);
+    }
+
+    /**
+     * Get all exclusion rules for an event (internal use)
+     */
+    @Transactional(readOnly = true)
+    public List<ExclusionRule> getRuleEntities(Long eventId) {
+        return exclusionRuleRepository.findByEventId(eventId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.secretsanta.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.secretsanta.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Locale;
+
+/**
+ * Tracks failed logins per email and client address pair, and per client address
+ * Too many failures within the window lock the key out, each lockout twice as long
+ * as the previous one; a locked login is refused before any password hashing
+ * An email is never locked on its own, so guessing from elsewhere cannot lock its admin out
+ */
+@Service
+public class LoginAttemptService {
+
+    // Caps the doubling so the shift cannot overflow
+    private static final int MAX_DOUBLINGS = 20;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${auth.login-attempts.window-ms:900000}")
+    private long windowMs;
+
+    @Value("${auth.login-attempts.email.max-failures:5}")
+    private int maxFailuresPerEmail;
+
+    @Value("${auth.login-attempts.address.max-failures:20}")
+    private int maxFailuresPerAddress;
+
+    @Value("${auth.login-attempts.lockout-base-ms:30000}")
+    private long lockoutBaseMs;
+
+    @Value("${auth.login-attempts.lockout-max-ms:3600000}")
+    private long lockoutMaxMs;
+
+    @Value("${auth.login-attempts.max-tracked:100000}")
+    private long maxTracked;
+
+    private Cache<String, Attempts> byEmailAndAddress;
+    private Cache<String, Attempts> byAddress;
+
+    private Counter blocked;
+    private Counter failed;
+    private Counter lockouts;
+
+    @PostConstruct
+    void init() {
+        // Idle keys are forgotten once neither their window nor a lockout can still apply
+        Duration idle = Duration.ofMillis(Math.max(windowMs, lockoutMaxMs));
+        byEmailAndAddress = Caffeine.newBuilder().maximumSize(maxTracked).expireAfterAccess(idle).build();
+        byAddress = Caffeine.newBuilder().maximumSize(maxTracked).expireAfterAccess(idle).build();
+
+        blocked = Counter.builder("auth.login.attempts")
+                .description("Login attempts by outcome")
+                .tag("result", "blocked")
+                .register(meterRegistry);
+        failed = Counter.builder("auth.login.attempts")
+                .description("Login attempts by outcome")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        lockouts = Counter.builder("auth.login.lockouts")
+                .description("Email and address pairs or client addresses locked out after repeated failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Refuse the login if the email from this client address, or the address itself, is locked out
+     *
+     * @throws TooManyRequestsException with the seconds until the lockout ends
+     */
+    public void checkAllowed(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        long waitMs = Math.max(
+                remainingLockout(byEmailAndAddress.getIfPresent(key(email, clientAddress)), now),
+                remainingLockout(byAddress.getIfPresent(clientAddress), now)
+        );
+        if (waitMs > 0) {
+            blocked.increment();
+            long retryAfterSeconds = Math.max(1, (waitMs + 999) / 1000);
+            throw new TooManyRequestsException(
+                    "Too many failed login attempts. Please try again in " + retryAfterSeconds + " seconds.",
+                    retryAfterSeconds
+            );
+        }
+    }
+
+    /**
+     * Count a failed login against the email from this client address and the address itself
+     */
+    public void recordFailure(String email, String clientAddress) {
+        long now = System.currentTimeMillis();
+        failed.increment();
+        recordFailure(
+                byEmailAndAddress.get(key(email, clientAddress), key -> new Attempts()),
+                maxFailuresPerEmail,
+                now
+        );
+        recordFailure(byAddress.get(clientAddress, key -> new Attempts()), maxFailuresPerAddress, now);
+    }
+
+    /**
+     * Clear the email's failures and lockout history from this client address after a successful login
+     * The client address keeps its count, so one valid account cannot reset it
+     */
+    public void recordSuccess(String email, String clientAddress) {
+        byEmailAndAddress.invalidate(key(email, clientAddress));
+    }
+
+    private void recordFailure(Attempts attempts, int maxFailures, long now) {
+        synchronized (attempts) {
+            // Slide the window, the deque never holds more than maxFailures entries
+            while (!attempts.failures.isEmpty() && attempts.failures.peekFirst() <= now - windowMs) {
+                attempts.failures.pollFirst();
+            }
+            attempts.failures.addLast(now);
+
+            if (attempts.failures.size() >= maxFailures) {
+                int doublings = Math.min(attempts.lockouts, MAX_DOUBLINGS);
+                attempts.lockedUntil = now + Math.min(lockoutBaseMs << doublings, lockoutMaxMs);
+                attempts.lockouts++;
+                attempts.failures.clear();
+                lockouts.increment();
+            }
+        }
+    }
+
+    private long remainingLockout(Attempts attempts, long now) {
+        if (attempts == null) {
+            return 0;
+        }
+        synchronized (attempts) {
+            return Math.max(0, attempts.lockedUntil - now);
+        }
+    }
+
+    private static String key(String email, String clientAddress) {
+        String normalized = email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+        return normalized + '|' + clientAddress;
+    }
+
+    // Guarded by its own monitor
+    private static final class Attempts {
+
+        private final ArrayDeque<Long> failures = new ArrayDeque<>();
+        private int lockouts;
+        private long lockedUntil;
+    }
+}
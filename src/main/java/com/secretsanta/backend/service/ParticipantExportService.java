@@ -0,0 +1,181 @@
+package com.secretsanta.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.secretsanta.backend.exception.BadRequestException;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.repository.projection.ParticipantExportRow;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class ParticipantExportService {
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Prefix of the participant's reveal link, e.g. https://santa.example.com/reveal/
+    @Value("${participants.export.link-base-url:}")
+    private String linkBaseUrl;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Export formats, picked with the format query parameter
+     */
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    /**
+     * Export an event's participants with their access codes
+     * Ownership is checked right away; rows are read and written once the body streams,
+     * one fetch at a time, so heap use does not grow with the event
+     */
+    public StreamingResponseBody exportParticipants(Long eventId, Format format) {
+        eventService.findEventByIdAndVerifyOwnership(eventId);
+
+        return outputStream -> {
+            Writer writer = new BufferedWriter(
+                    new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                    WRITE_BUFFER_SIZE
+            );
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ParticipantExportRow> rows = participantRepository.streamExportRowsByEventId(eventId)) {
+                    if (format == Format.CSV) {
+                        writeCsv(rows.iterator(), writer);
+                    } else {
+                        writeNdjson(rows.iterator(), writer);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+        };
+    }
+
+    private void writeCsv(Iterator<ParticipantExportRow> rows, Writer writer) throws IOException {
+        writer.write("id,name,email,accessCode,accessLink,createdAt\r\n");
+        while (rows.hasNext()) {
+            ParticipantExportRow row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(csvField(row.name()));
+            writer.write(',');
+            writer.write(csvField(row.email()));
+            writer.write(',');
+            writer.write(String.valueOf(row.accessCode()));
+            writer.write(',');
+            writer.write(csvField(accessLink(row.accessCode())));
+            writer.write(',');
+            writer.write(row.createdAt() != null ? row.createdAt().toString() : "");
+            writer.write("\r\n");
+        }
+    }
+
+    private void writeNdjson(Iterator<ParticipantExportRow> rows, Writer writer) throws IOException {
+        while (rows.hasNext()) {
+            ParticipantExportRow row = rows.next();
+            writer.write(objectMapper.writeValueAsString(new ExportLine(
+                    row.id(),
+                    row.name(),
+                    row.email(),
+                    row.accessCode(),
+                    accessLink(row.accessCode()),
+                    row.createdAt()
+            )));
+            writer.write('\n');
+        }
+    }
+
+    private String accessLink(UUID accessCode) {
+        return linkBaseUrl.isEmpty() ? null : linkBaseUrl + accessCode;
+    }
+
+    /**
+     * Quote a field per RFC 4180 and defuse values a spreadsheet would run as a formula
+     */
+    private static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    record ExportLine(
+            Long id,
+            String name,
+            String email,
+            UUID accessCode,
+            String accessLink,
+            LocalDateTime createdAt
+    ) {
+    }
+}
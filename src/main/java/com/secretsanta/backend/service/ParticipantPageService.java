@@ -0,0 +1,102 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.dto.response.CursorPageResponse;
+import com.secretsanta.backend.dto.response.ParticipantResponse;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Service
+public class ParticipantPageService {
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    @Autowired
+    private DrawPermutationService drawPermutationService;
+
+    @Value("${participants.page-size.default:50}")
+    private int defaultPageSize;
+
+    @Value("${participants.page-size.max:500}")
+    private int maxPageSize;
+
+    /**
+     * Get one page of an event's participants, oldest first
+     * The caller has already verified ownership of the event
+     * A null limit uses the configured default; larger limits are capped
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ParticipantResponse> findPage(Event event, String cursor, Integer limit) {
+        int pageSize = pageSize(limit);
+        PageCursor after = PageCursor.decode(cursor);
+
+        // One extra row tells whether another page follows
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<Participant> participants = after == null
+                ? participantRepository.findPageByEventId(event.getId(), pageable)
+                : participantRepository.findPageByEventIdAfter(event.getId(), after.createdAt(), after.id(), pageable);
+
+        boolean hasMore = participants.size() > pageSize;
+        if (hasMore) {
+            participants = participants.subList(0, pageSize);
+        }
+
+        Predicate<Participant> hasAssignment = assignmentCheck(event, participants);
+        List<ParticipantResponse> items = participants.stream()
+                .map(participant -> ParticipantResponse.from(participant, hasAssignment.test(participant)))
+                .collect(Collectors.toList());
+
+        Participant last = participants.isEmpty() ? null : participants.get(participants.size() - 1);
+        return CursorPageResponse.<ParticipantResponse>builder()
+                .items(items)
+                .nextCursor(hasMore ? new PageCursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * Rows per page of a participant listing
+     * A null limit uses the configured default; larger limits are capped
+     */
+    public int pageSize(Integer limit) {
+        return limit == null ? defaultPageSize : Math.max(1, Math.min(limit, maxPageSize));
+    }
+
+    /**
+     * Draw membership of a page of participants
+     * Row-stored draws are checked with one query for the whole page,
+     * compact draws with one pass over the stored IDs
+     */
+    private Predicate<Participant> assignmentCheck(Event event, List<Participant> participants) {
+        if (!event.hasDrawBeenPerformed() || participants.isEmpty()) {
+            return participant -> false;
+        }
+
+        List<Long> pageIds = participants.stream().map(Participant::getId).collect(Collectors.toList());
+        Set<Long> drawnIds = event.isCompactDrawStorage()
+                ? drawPermutationService.findDrawnIds(event, pageIds)
+                : new HashSet<>(assignmentRepository.findGiverIdsInGeneration(
+                        event.getId(),
+                        event.getCurrentDrawGeneration(),
+                        pageIds
+                ));
+        return participant -> drawnIds.contains(participant.getId());
+    }
+}
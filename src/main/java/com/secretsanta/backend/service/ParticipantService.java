@@ -1,19 +1,21 @@
 package com.secretsanta.backend.service;
 
 import com.secretsanta.backend.dto.request.AddParticipantRequest;
+import com.secretsanta.backend.dto.response.CursorPageResponse;
 import com.secretsanta.backend.dto.response.ParticipantResponse;
 import com.secretsanta.backend.exception.BadRequestException;
 import com.secretsanta.backend.exception.ConflictException;
 import com.secretsanta.backend.exception.ResourceNotFoundException;
 import com.secretsanta.backend.model.Event;
 import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.ExclusionRuleRepository;
 import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.repository.RevealDocumentRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 public class ParticipantService {
@@ -21,15 +23,33 @@ public class ParticipantService {
     @Autowired
     private ParticipantRepository participantRepository;
 
+    @Autowired
+    private ExclusionRuleRepository exclusionRuleRepository;
+
     @Autowired
     private EventService eventService;
 
+    @Autowired
+    private ParticipantPageService participantPageService;
+
+    @Autowired
+    private RevealCacheService revealCacheService;
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private EventRevisionService eventRevisionService;
+
+    @Autowired
+    private AccessCodeFilterService accessCodeFilterService;
+
     /**
      * Add participant to event
      */
     @Transactional
     public ParticipantResponse addParticipant(Long eventId, AddParticipantRequest request) {
-        Event event = eventService.findEventByIdAndVerifyOwnership(eventId);
+        Event event = eventService.lockEventForChange(eventId);
 
         // Check if event is locked
         if (!event.canBeModified()) {
@@ -51,23 +71,19 @@ public class ParticipantService {
                 .build();
 
         Participant savedParticipant = participantRepository.save(participant);
+        accessCodeFilterService.add(savedParticipant.getAccessCode());
+        eventRevisionService.bump(event);
         return ParticipantResponse.from(savedParticipant);
     }
 
     /**
-     * Get all participants for an event
+     * Get one page of an event's participants
      */
     @Transactional(readOnly = true)
-    public List<ParticipantResponse> getParticipants(Long eventId) {
+    public CursorPageResponse<ParticipantResponse> getParticipants(Long eventId, String cursor, Integer limit) {
         // Verify ownership
-        eventService.findEventByIdAndVerifyOwnership(eventId);
-
-        List<Participant> participants = participantRepository
-                .findByEventIdOrderByCreatedAtAsc(eventId);
-
-        return participants.stream()
-                .map(ParticipantResponse::from)
-                .collect(Collectors.toList());
+        Event event = eventService.findEventByIdAndVerifyOwnership(eventId);
+        return participantPageService.findPage(event, cursor, limit);
     }
 
     /**
@@ -81,15 +97,22 @@ public class ParticipantService {
                         "Participant", "id", participantId
                 ));
 
-        // Verify admin owns the event
-        eventService.findEventByIdAndVerifyOwnership(participant.getEvent().getId());
+        // Verify admin owns the event and hold it while removing
+        Event event = eventService.lockEventForChange(participant.getEvent().getId());
 
         // Check if event is locked
-        if (!participant.getEvent().canBeModified()) {
+        if (!event.canBeModified()) {
             throw new BadRequestException("Cannot remove participants from locked event");
         }
 
+        // Drop exclusion rules that reference this participant
+        exclusionRuleRepository.deleteByParticipantId(participantId);
+
+        revealDocumentRepository.deleteByAccessCode(participant.getAccessCode());
         participantRepository.delete(participant);
+        accessCodeFilterService.removeAfterCommit(participant.getAccessCode());
+        eventRevisionService.bump(event);
+        revealCacheService.evictEventAfterCommit(event.getId());
     }
 
     /**
@@ -0,0 +1,95 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+@Service
+public class PasswordHashingService {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ThreadPoolTaskExecutor passwordHashingExecutor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Checked when the email is unknown, so such logins take as long as real ones
+    private String unknownAdminHash;
+
+    private Timer encodeTimer;
+    private Timer matchTimer;
+    private Counter rejected;
+
+    @PostConstruct
+    void init() {
+        unknownAdminHash = passwordEncoder.encode("unknown-admin-placeholder");
+
+        encodeTimer = Timer.builder("auth.password.duration")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        matchTimer = Timer.builder("auth.password.duration")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "match")
+                .register(meterRegistry);
+        rejected = Counter.builder("auth.password.rejected")
+                .description("Password operations rejected because the hashing queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.queue", passwordHashingExecutor, executor -> executor.getQueueSize())
+                .description("Password operations waiting for a hashing worker")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash a password on the hashing executor
+     */
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Check a password against a stored hash on the hashing executor
+     * A null hash (unknown admin) is checked against a placeholder and never matches
+     */
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchTimer.record(() -> {
+            if (encodedPassword == null) {
+                passwordEncoder.matches(rawPassword, unknownAdminHash);
+                return false;
+            }
+            return passwordEncoder.matches(rawPassword, encodedPassword);
+        }));
+    }
+
+    /**
+     * Whether a stored hash was made with a lower cost than currently configured
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, passwordHashingExecutor);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException(
+                    "Too many sign-in attempts in progress. Please try again shortly."
+            );
+        }
+    }
+}
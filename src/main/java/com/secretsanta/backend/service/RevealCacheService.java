@@ -0,0 +1,164 @@
+package com.secretsanta.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+public class RevealCacheService {
+
+    @Value("${reveal.cache.max-size:100000}")
+    private long maxSize;
+
+    @Value("${reveal.cache.ttl-ms:1800000}")
+    private long ttlMs;
+
+    // Bumped on every invalidation; a load that overlaps one is not cached
+    private final AtomicLong invalidations = new AtomicLong();
+
+    // Cached access codes per event, so an event is evicted without scanning the cache
+    // Each set is only changed inside compute() on its event's bin
+    private final ConcurrentHashMap<Long, Set<UUID>> keysByEvent = new ConcurrentHashMap<>();
+
+    private Cache<UUID, Reveal> cache;
+
+    @PostConstruct
+    void buildCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                // Runs atomically with the eviction, before the key can be cached again
+                .evictionListener((UUID accessCode, Reveal reveal, RemovalCause cause) -> {
+                    if (accessCode != null && reveal != null) {
+                        unindex(reveal.eventId(), accessCode);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Return the cached reveal for an access code, or load and cache it
+     * Empty results are not cached, so a participant checking before the draw
+     * sees their assignment as soon as it exists
+     */
+    public Optional<byte[]> get(UUID accessCode, Supplier<Optional<Reveal>> loader) {
+        Reveal cached = cache.getIfPresent(accessCode);
+        if (cached != null) {
+            return Optional.of(cached.payload());
+        }
+
+        long stamp = invalidations.get();
+        Optional<Reveal> loaded = loader.get();
+        loaded.ifPresent(reveal -> {
+            // Skip caching if an event changed while loading, the result may already be stale
+            if (invalidations.get() == stamp) {
+                put(accessCode, reveal, stamp);
+            }
+        });
+        return loaded.map(Reveal::payload);
+    }
+
+    /**
+     * Load many reveals at once and cache them
+     * Returns the number cached, which falls short when an event changed while loading
+     */
+    public int warm(Supplier<Map<UUID, Reveal>> loader) {
+        long stamp = invalidations.get();
+        Map<UUID, Reveal> loaded = loader.get();
+        if (invalidations.get() != stamp) {
+            return 0;
+        }
+        int cached = 0;
+        for (Map.Entry<UUID, Reveal> entry : loaded.entrySet()) {
+            if (!put(entry.getKey(), entry.getValue(), stamp)) {
+                return cached;
+            }
+            cached++;
+        }
+        return cached;
+    }
+
+    /**
+     * Cache a reveal loaded before the given invalidation stamp
+     * An eviction either finds the key in the index or bumps the stamp before
+     * the re-check below, which then takes the stale reveal back out
+     */
+    private boolean put(UUID accessCode, Reveal reveal, long stamp) {
+        cache.put(accessCode, reveal);
+        keysByEvent.compute(reveal.eventId(), (eventId, keys) -> {
+            Set<UUID> indexed = keys != null ? keys : new HashSet<>();
+            indexed.add(accessCode);
+            return indexed;
+        });
+        if (invalidations.get() != stamp) {
+            // An explicit removal does not reach the eviction listener, so unindex here; under the
+            // key's lock, so a fresher reveal cached right after is indexed again
+            cache.asMap().compute(accessCode, (code, current) -> {
+                unindex(reveal.eventId(), code);
+                return null;
+            });
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Revision of the event behind a cached reveal, without touching the database
+     */
+    public Optional<Long> findCachedRevision(UUID accessCode) {
+        return Optional.ofNullable(cache.getIfPresent(accessCode)).map(Reveal::revision);
+    }
+
+    /**
+     * Drop all cached reveals of an event once the current transaction commits
+     * Called on redraw, rollback, participant removal, event update and deletion
+     */
+    public void evictEventAfterCommit(Long eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictEvent(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictEvent(eventId);
+            }
+        });
+    }
+
+    private void evictEvent(Long eventId) {
+        invalidations.incrementAndGet();
+        Set<UUID> keys = keysByEvent.remove(eventId);
+        if (keys != null) {
+            cache.invalidateAll(keys);
+        }
+    }
+
+    private void unindex(Long eventId, UUID accessCode) {
+        keysByEvent.computeIfPresent(eventId, (id, keys) -> {
+            keys.remove(accessCode);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    /**
+     * A participant's serialized assignment together with the event and revision it belongs to
+     */
+    public record Reveal(Long eventId, Long revision, byte[] payload) {
+    }
+}
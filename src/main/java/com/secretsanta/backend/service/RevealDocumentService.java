@@ -0,0 +1,76 @@
+package com.secretsanta.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.secretsanta.backend.dto.response.AssignmentResponse;
+import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.RevealDocument;
+import com.secretsanta.backend.repository.AssignmentRepository;
+import com.secretsanta.backend.repository.RevealDocumentRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class RevealDocumentService {
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    // Same mapper as the HTTP message converters, so stored bytes match a live response
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * Build the reveal documents of freshly drawn assignments
+     * The caller saves them together with the assignments
+     */
+    public List<RevealDocument> buildDocuments(Event event, List<Assignment> assignments, int generation) {
+        List<RevealDocument> documents = new ArrayList<>(assignments.size());
+        for (Assignment assignment : assignments) {
+            documents.add(RevealDocument.builder()
+                    .event(event)
+                    .accessCode(assignment.getGiver().getAccessCode())
+                    .generation(generation)
+                    .payload(serialize(AssignmentResponse.from(assignment)))
+                    .build());
+        }
+        return documents;
+    }
+
+    /**
+     * Rewrite the reveal documents of a draw generation
+     * Used when event details shown in the reveal change, or an older draw is restored
+     */
+    @Transactional
+    public void rewrite(Event event, int generation) {
+        revealDocumentRepository.deleteByEventIdAndGeneration(event.getId(), generation);
+
+        List<Assignment> assignments = assignmentRepository
+                .findByEventIdAndGenerationWithParticipants(event.getId(), generation);
+        List<RevealDocument> documents = buildDocuments(event, assignments, generation);
+        for (int from = 0; from < documents.size(); from += DrawService.SAVE_CHUNK_SIZE) {
+            int to = Math.min(from + DrawService.SAVE_CHUNK_SIZE, documents.size());
+            revealDocumentRepository.saveAll(documents.subList(from, to));
+            revealDocumentRepository.flush();
+        }
+    }
+
+    /**
+     * Serialize a reveal response to UTF-8 JSON
+     */
+    public byte[] serialize(AssignmentResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize assignment response", e);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.dto.response.EventViewsResponse;
+import com.secretsanta.backend.repository.ParticipantRepository;
+import com.secretsanta.backend.repository.projection.EventViewTotals;
+import com.secretsanta.backend.repository.projection.ParticipantViewRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class RevealViewService {
+
+    private static final Logger log = LoggerFactory.getLogger(RevealViewService.class);
+
+    // Rows per JDBC batch when flushing
+    private static final int FLUSH_BATCH_SIZE = 1000;
+
+    private static final String FLUSH_SQL =
+            "UPDATE participants " +
+            "SET view_count = view_count + ?, first_viewed_at = COALESCE(first_viewed_at, ?) " +
+            "WHERE access_code = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private ParticipantPageService participantPageService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    // Views not yet written, per access code; compute() and remove() lock only the key's bin
+    private final ConcurrentHashMap<UUID, PendingViews> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Count a reveal in memory; written to the database by the next flush
+     * Never touches the database, so the reveal path stays read-only
+     */
+    public void recordView(UUID accessCode) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.compute(accessCode, (code, views) -> {
+            if (views == null) {
+                return new PendingViews(1, now);
+            }
+            views.count++;
+            return views;
+        });
+    }
+
+    /**
+     * Write pending views with batched updates
+     * Each instance adds its own counts, so running several instances is safe
+     */
+    @Scheduled(
+            initialDelayString = "${reveal.views.flush-interval-ms:10000}",
+            fixedDelayString = "${reveal.views.flush-interval-ms:10000}"
+    )
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Removing under the bin lock hands over each entry exactly once
+        List<Map.Entry<UUID, PendingViews>> drained = new ArrayList<>(pending.size());
+        for (UUID accessCode : pending.keySet()) {
+            PendingViews views = pending.remove(accessCode);
+            if (views != null) {
+                drained.add(Map.entry(accessCode, views));
+            }
+        }
+
+        try {
+            // One transaction, so a failed flush can be retried without counting twice
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    FLUSH_SQL, drained, FLUSH_BATCH_SIZE, (statement, entry) -> {
+                        statement.setLong(1, entry.getValue().count);
+                        statement.setTimestamp(2, Timestamp.valueOf(entry.getValue().firstViewedAt));
+                        statement.setObject(3, entry.getKey());
+                    }
+            ));
+        } catch (RuntimeException e) {
+            // Put the views back so the next flush retries them
+            drained.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(), PendingViews::merge));
+            log.warn("Could not flush {} reveal view counts, will retry", drained.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Reveal progress of an event: totals from one aggregate query and one page of participants
+     * Views reach the database on the next flush, so the newest ones may be missing
+     */
+    @Transactional(readOnly = true)
+    public EventViewsResponse getEventViews(Long eventId, String cursor, Integer limit) {
+        eventService.findEventByIdAndVerifyOwnership(eventId);
+        int pageSize = participantPageService.pageSize(limit);
+        PageCursor after = PageCursor.decode(cursor);
+
+        // One extra row tells whether another page follows
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
+        List<ParticipantViewRow> rows = after == null
+                ? participantRepository.findViewPageByEventId(eventId, pageable)
+                : participantRepository.findViewPageByEventIdAfter(eventId, after.createdAt(), after.id(), pageable);
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            ParticipantViewRow last = rows.get(pageSize - 1);
+            nextCursor = new PageCursor(last.createdAt(), last.participantId()).encode();
+        }
+
+        EventViewTotals totals = participantRepository.summarizeViewsByEventId(eventId);
+        return EventViewsResponse.from(eventId, totals, rows, nextCursor);
+    }
+
+    private static final class PendingViews {
+
+        private long count;
+        private final LocalDateTime firstViewedAt;
+
+        private PendingViews(long count, LocalDateTime firstViewedAt) {
+            this.count = count;
+            this.firstViewedAt = firstViewedAt;
+        }
+
+        private PendingViews merge(PendingViews newer) {
+            return new PendingViews(
+                    count + newer.count,
+                    firstViewedAt.isBefore(newer.firstViewedAt) ? firstViewedAt : newer.firstViewedAt
+            );
+        }
+    }
+}
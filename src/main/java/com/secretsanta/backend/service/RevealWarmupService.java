@@ -0,0 +1,108 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.repository.RevealDocumentRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class RevealWarmupService {
+
+    private static final Logger log = LoggerFactory.getLogger(RevealWarmupService.class);
+
+    @Autowired
+    private RevealDocumentRepository revealDocumentRepository;
+
+    @Autowired
+    private RevealCacheService revealCacheService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor revealWarmupExecutor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${reveal.warmup.enabled:true}")
+    private boolean enabled;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @PostConstruct
+    void initTransactionTemplate() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Load every reveal of an event into the cache in the background
+     * once the current transaction commits
+     * Called when an event is locked, right before participants open their links
+     */
+    public void warmEventAfterCommit(Long eventId) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(eventId);
+            }
+        });
+    }
+
+    private void submit(Long eventId) {
+        try {
+            revealWarmupExecutor.execute(() -> warmEvent(eventId));
+        } catch (TaskRejectedException e) {
+            // Best effort; reveals are still loaded on demand
+            log.warn("Skipping reveal cache warm-up for event {}, queue is full", eventId);
+        }
+    }
+
+    /**
+     * Cache the reveal documents of the event's current draw using a single query
+     * Compactly stored draws have no documents and keep loading on demand
+     */
+    void warmEvent(Long eventId) {
+        try {
+            int cached = revealCacheService.warm(() -> readOnlyTransaction.execute(status -> loadReveals(eventId)));
+            log.debug("Warmed {} reveals of event {}", cached, eventId);
+        } catch (RuntimeException e) {
+            log.warn("Reveal cache warm-up failed for event {}", eventId, e);
+        }
+    }
+
+    private Map<UUID, RevealCacheService.Reveal> loadReveals(Long eventId) {
+        Map<UUID, RevealCacheService.Reveal> reveals = new HashMap<>();
+        try (Stream<RevealDocumentRepository.AccessCodePayload> documents =
+                     revealDocumentRepository.streamCurrentPayloadsByEventId(eventId)) {
+            documents.forEach(document -> reveals.put(
+                    document.getAccessCode(),
+                    new RevealCacheService.Reveal(
+                            document.getEventId(),
+                            document.getRevision(),
+                            document.getPayload()
+                    )
+            ));
+        }
+        return reveals;
+    }
+}
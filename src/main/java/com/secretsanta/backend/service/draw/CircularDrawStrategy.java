@@ -0,0 +1,53 @@
+package com.secretsanta.backend.service.draw;
+
+import com.secretsanta.backend.model.DrawStrategyType;
+import org.springframework.stereotype.Component;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Single Hamiltonian cycle: participants are shuffled into a circle
+ * and each gives to the next one
+ * Never produces reciprocal pairs for three or more participants,
+ * but ignores exclusion rules
+ */
+@Component
+public class CircularDrawStrategy implements DrawStrategy {
+
+    @Override
+    public DrawStrategyType getType() {
+        return DrawStrategyType.CIRCULAR;
+    }
+
+    @Override
+    public boolean supports(DrawConstraints constraints) {
+        return !constraints.hasForbiddenPairs();
+    }
+
+    @Override
+    public int[] draw(DrawConstraints constraints, RandomGenerator random) {
+        int n = constraints.size();
+        if (n < 2) {
+            throw new IllegalArgumentException("Circular draw requires at least 2 elements");
+        }
+
+        // Fisher-Yates shuffle of the circle order
+        int[] circle = new int[n];
+        for (int i = 0; i < n; i++) {
+            circle[i] = i;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = circle[i];
+            circle[i] = circle[j];
+            circle[j] = swap;
+        }
+
+        // Each person gives to the next person in the circle
+        int[] receivers = new int[n];
+        for (int i = 0; i < n; i++) {
+            receivers[circle[i]] = circle[i + 1 < n ? i + 1 : 0];
+        }
+        return receivers;
+    }
+}
@@ -0,0 +1,301 @@
+package com.secretsanta.backend.service.draw;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Constraint-aware draw solver
+ * Starts from a random derangement, releases the pairs that break a rule,
+ * and repairs them with augmenting paths (bipartite matching) instead of
+ * rejecting the whole permutation
+ * Reciprocal pairs are swapped away afterwards; when that fails the draw is
+ * retried from another derangement, and finally searched exhaustively
+ */
+public final class ConstrainedDrawSolver {
+
+    private static final int UNASSIGNED = -1;
+
+    // Fresh derangements tried before falling back to the exhaustive search
+    private static final int RECIPROCAL_ATTEMPTS = 16;
+
+    // Assignments the exhaustive search may try before giving up
+    private static final long SEARCH_BUDGET = 2_000_000;
+
+    private ConstrainedDrawSolver() {
+    }
+
+    /**
+     * Find an assignment satisfying all constraints
+     * Returns an array where result[giver] is the receiver index
+     *
+     * @throws InfeasibleDrawException if no valid assignment exists
+     */
+    public static int[] solve(DrawConstraints constraints, RandomGenerator random) {
+        int[] unbrokenPair = null;
+        for (int attempt = 0; attempt < RECIPROCAL_ATTEMPTS; attempt++) {
+            // Infeasible even with reciprocal pairs allowed means infeasible for good
+            int[] match = matchAvoidingRules(constraints, random);
+            if (!constraints.isPreventReciprocal()) {
+                return match;
+            }
+            unbrokenPair = breakReciprocalPairs(constraints, match, random);
+            if (unbrokenPair == null) {
+                return match;
+            }
+        }
+        return new ReciprocalFreeSearch(constraints, unbrokenPair).search();
+    }
+
+    private static int[] matchAvoidingRules(DrawConstraints constraints, RandomGenerator random) {
+        int n = constraints.size();
+        int[] match = Derangements.derange(n, random);
+        int[] owner = new int[n];
+
+        // Release every giver whose random receiver breaks a rule
+        int[] freeGivers = new int[n];
+        int freeCount = 0;
+        for (int giver = 0; giver < n; giver++) {
+            owner[match[giver]] = giver;
+        }
+        for (int giver = 0; giver < n; giver++) {
+            if (constraints.isForbidden(giver, match[giver])) {
+                owner[match[giver]] = UNASSIGNED;
+                match[giver] = UNASSIGNED;
+                freeGivers[freeCount++] = giver;
+            }
+        }
+
+        // Re-match released givers one augmenting path at a time
+        if (freeCount > 0) {
+            Augmenter augmenter = new Augmenter(constraints, match, owner, random);
+            for (int i = 0; i < freeCount; i++) {
+                augmenter.augment(freeGivers[i]);
+            }
+        }
+        return match;
+    }
+
+    /**
+     * Rewire every A <-> B pair by swapping A's receiver with another giver C:
+     * A -> D and C -> B, where D was C's receiver; B's side is tried when A's fails
+     * The swap never creates a new reciprocal pair, so one pass is enough
+     * Returns null when all pairs were broken, otherwise the first pair that was not
+     */
+    private static int[] breakReciprocalPairs(DrawConstraints constraints, int[] match, RandomGenerator random) {
+        int n = match.length;
+        for (int a = 0; a < n; a++) {
+            int b = match[a];
+            if (match[b] != a) {
+                continue;
+            }
+            if (!swapReceiver(constraints, match, a, random) && !swapReceiver(constraints, match, b, random)) {
+                return new int[]{a, b};
+            }
+        }
+        return null;
+    }
+
+    private static boolean swapReceiver(DrawConstraints constraints, int[] match, int a, RandomGenerator random) {
+        int n = match.length;
+        int b = match[a];
+        int start = random.nextInt(n);
+        for (int k = 0; k < n; k++) {
+            int c = (start + k) % n;
+            if (c == a || c == b) {
+                continue;
+            }
+            int d = match[c];
+            if (!constraints.isForbidden(a, d) && !constraints.isForbidden(c, b)) {
+                match[a] = d;
+                match[c] = b;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Depth-first search over every assignment without reciprocal pairs
+     * Givers with the fewest allowed receivers are placed first, so a dead end shows early
+     * Only reached when repeated repairs failed, which in practice means a small, tightly ruled event
+     */
+    private static final class ReciprocalFreeSearch {
+
+        private final DrawConstraints constraints;
+        private final int[] unbrokenPair;
+        private final int[] order;
+        private final int[] match;
+        private final boolean[] taken;
+        private long remainingBudget = SEARCH_BUDGET;
+
+        private ReciprocalFreeSearch(DrawConstraints constraints, int[] unbrokenPair) {
+            int n = constraints.size();
+            this.constraints = constraints;
+            this.unbrokenPair = unbrokenPair;
+            this.match = new int[n];
+            this.taken = new boolean[n];
+            Arrays.fill(match, UNASSIGNED);
+
+            int[] allowed = new int[n];
+            Integer[] givers = new Integer[n];
+            for (int giver = 0; giver < n; giver++) {
+                givers[giver] = giver;
+                for (int receiver = 0; receiver < n; receiver++) {
+                    if (!constraints.isForbidden(giver, receiver)) {
+                        allowed[giver]++;
+                    }
+                }
+            }
+            Arrays.sort(givers, (first, second) -> Integer.compare(allowed[first], allowed[second]));
+            this.order = Arrays.stream(givers).mapToInt(Integer::intValue).toArray();
+        }
+
+        private int[] search() {
+            if (place()) {
+                return match;
+            }
+            int[] pair = unbrokenPair;
+            if (remainingBudget < 0) {
+                throw new InfeasibleDrawException(
+                        "no draw without reciprocal pairs was found within the search limit",
+                        pair,
+                        new int[]{pair[1], pair[0]},
+                        false
+                );
+            }
+            throw new InfeasibleDrawException(
+                    "reciprocal pairs cannot be avoided",
+                    pair,
+                    new int[]{pair[1], pair[0]}
+            );
+        }
+
+        /**
+         * Iterative backtracking, nextReceiver[depth] is where the giver at that depth resumes
+         */
+        private boolean place() {
+            int n = order.length;
+            int[] nextReceiver = new int[n];
+            int depth = 0;
+            while (depth >= 0) {
+                if (depth == n) {
+                    return true;
+                }
+                int giver = order[depth];
+                if (match[giver] != UNASSIGNED) {
+                    taken[match[giver]] = false;
+                    match[giver] = UNASSIGNED;
+                }
+
+                int receiver = nextReceiver[depth];
+                while (receiver < n && (taken[receiver] || match[receiver] == giver
+                        || constraints.isForbidden(giver, receiver))) {
+                    receiver++;
+                }
+                if (receiver == n) {
+                    nextReceiver[depth] = 0;
+                    depth--;
+                    continue;
+                }
+                if (--remainingBudget < 0) {
+                    return false;
+                }
+                match[giver] = receiver;
+                taken[receiver] = true;
+                nextReceiver[depth] = receiver + 1;
+                depth++;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Breadth-first augmenting path search over the allowed giver -> receiver graph
+     * Scratch arrays are reused across searches using a visit stamp
+     */
+    private static final class Augmenter {
+
+        private final DrawConstraints constraints;
+        private final int[] match;
+        private final int[] owner;
+        private final RandomGenerator random;
+        private final int[] visitStamp;
+        private final int[] reachedFrom;
+        private final int[] queue;
+        private int stamp;
+
+        private Augmenter(DrawConstraints constraints, int[] match, int[] owner, RandomGenerator random) {
+            int n = match.length;
+            this.constraints = constraints;
+            this.match = match;
+            this.owner = owner;
+            this.random = random;
+            this.visitStamp = new int[n];
+            this.reachedFrom = new int[n];
+            this.queue = new int[n];
+        }
+
+        private void augment(int source) {
+            int n = match.length;
+            stamp++;
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = source;
+
+            while (head < tail) {
+                int giver = queue[head++];
+                // Random scan start keeps repaired pairs unbiased towards low indexes
+                int start = random.nextInt(n);
+                for (int k = 0; k < n; k++) {
+                    int receiver = start + k < n ? start + k : start + k - n;
+                    if (visitStamp[receiver] == stamp || constraints.isForbidden(giver, receiver)) {
+                        continue;
+                    }
+                    visitStamp[receiver] = stamp;
+                    reachedFrom[receiver] = giver;
+
+                    if (owner[receiver] == UNASSIGNED) {
+                        flipPath(source, receiver);
+                        return;
+                    }
+                    queue[tail++] = owner[receiver];
+                }
+            }
+
+            throw infeasible(tail);
+        }
+
+        private void flipPath(int source, int receiver) {
+            while (true) {
+                int giver = reachedFrom[receiver];
+                int previous = match[giver];
+                match[giver] = receiver;
+                owner[receiver] = giver;
+                if (giver == source) {
+                    return;
+                }
+                receiver = previous;
+            }
+        }
+
+        /**
+         * Every giver reached by the search competes for the receivers it reached,
+         * and there is one receiver fewer than givers (Hall's condition fails)
+         */
+        private InfeasibleDrawException infeasible(int giverCount) {
+            int[] givers = Arrays.copyOf(queue, giverCount);
+            int[] receivers = new int[giverCount - 1];
+            int count = 0;
+            for (int receiver = 0; receiver < visitStamp.length; receiver++) {
+                if (visitStamp[receiver] == stamp) {
+                    receivers[count++] = receiver;
+                }
+            }
+            return new InfeasibleDrawException(
+                    givers.length + " participants can only give to " + count + " recipients",
+                    givers,
+                    Arrays.copyOf(receivers, count)
+            );
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.secretsanta.backend.service.draw;
+
+import com.secretsanta.backend.model.DrawStrategyType;
+import org.springframework.stereotype.Component;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Constraint-aware solver, see ConstrainedDrawSolver
+ * Handles exclusion rules and reciprocal prevention
+ */
+@Component
+public class ConstrainedDrawStrategy implements DrawStrategy {
+
+    @Override
+    public DrawStrategyType getType() {
+        return DrawStrategyType.CONSTRAINED;
+    }
+
+    @Override
+    public boolean supports(DrawConstraints constraints) {
+        return true;
+    }
+
+    @Override
+    public int[] draw(DrawConstraints constraints, RandomGenerator random) {
+        return ConstrainedDrawSolver.solve(constraints, random);
+    }
+}
@@ -0,0 +1,99 @@
+package com.secretsanta.backend.service.draw;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Uniform random derangement generator
+ * Produces a permutation with no fixed points in a single O(n) pass,
+ * without rejecting and reshuffling whole permutations
+ */
+public final class Derangements {
+
+    // Exact 2-cycle probabilities for small sizes; above this they equal 1/m to double precision
+    private static final int EXACT_TABLE_SIZE = 21;
+    private static final double[] TWO_CYCLE_PROBABILITY = buildTwoCycleTable();
+
+    private Derangements() {
+    }
+
+    /**
+     * Generate a derangement of size n
+     * Returns an array where result[giver] is the receiver index, never equal to giver
+     *
+     * Works top-down on the recursion D(m) = (m - 1) * (D(m - 1) + D(m - 2)):
+     * the last remaining element either closes a 2-cycle with a random partner,
+     * or is spliced into the cycle of a random partner once the rest is deranged
+     */
+    public static int[] derange(int n, RandomGenerator random) {
+        if (n < 2) {
+            throw new IllegalArgumentException("Derangement requires at least 2 elements");
+        }
+
+        int[] result = new int[n];
+        int[] remaining = new int[n];
+        for (int i = 0; i < n; i++) {
+            remaining[i] = i;
+        }
+
+        // Elements spliced into a partner's cycle, resolved after the rest is deranged
+        int[] splicedElement = new int[n];
+        int[] splicedPartner = new int[n];
+        int spliced = 0;
+
+        int m = n;
+        while (m > 0) {
+            int element = remaining[m - 1];
+            int partnerIndex = random.nextInt(m - 1);
+            int partner = remaining[partnerIndex];
+
+            if (random.nextDouble() < twoCycleProbability(m)) {
+                // Close a 2-cycle and drop both elements
+                result[element] = partner;
+                result[partner] = element;
+                remaining[partnerIndex] = remaining[m - 2];
+                m -= 2;
+            } else {
+                // Drop the element now, splice it in once the partner is placed
+                splicedElement[spliced] = element;
+                splicedPartner[spliced] = partner;
+                spliced++;
+                m -= 1;
+            }
+        }
+
+        // Unwind splices in reverse order: partner -> element -> partner's old receiver
+        for (int i = spliced - 1; i >= 0; i--) {
+            int element = splicedElement[i];
+            int partner = splicedPartner[i];
+            result[element] = result[partner];
+            result[partner] = element;
+        }
+
+        return result;
+    }
+
+    /**
+     * Probability that the last of m remaining elements closes a 2-cycle
+     * Equals D(m - 2) / (D(m - 1) + D(m - 2))
+     */
+    private static double twoCycleProbability(int m) {
+        return m < EXACT_TABLE_SIZE ? TWO_CYCLE_PROBABILITY[m] : 1.0 / m;
+    }
+
+    private static double[] buildTwoCycleTable() {
+        // D(20) is the largest derangement number that fits in a long
+        long[] derangementCounts = new long[EXACT_TABLE_SIZE];
+        derangementCounts[0] = 1;
+        derangementCounts[1] = 0;
+        for (int k = 2; k < EXACT_TABLE_SIZE; k++) {
+            derangementCounts[k] = (k - 1) * (derangementCounts[k - 1] + derangementCounts[k - 2]);
+        }
+
+        double[] table = new double[EXACT_TABLE_SIZE];
+        for (int m = 2; m < EXACT_TABLE_SIZE; m++) {
+            double pairs = derangementCounts[m - 2];
+            table[m] = pairs / (derangementCounts[m - 1] + pairs);
+        }
+        return table;
+    }
+}
@@ -0,0 +1,127 @@
+package com.secretsanta.backend.service.draw;
+
+import java.util.Arrays;
+
+/**
+ * Draw constraints over participant indexes
+ * Forbidden giver -> receiver pairs are kept as sorted primitive adjacency arrays
+ */
+public final class DrawConstraints {
+
+    private final int size;
+    private final int[] offsets;
+    private final int[] forbiddenReceivers;
+    private final boolean preventReciprocal;
+
+    private DrawConstraints(int size, int[] offsets, int[] forbiddenReceivers, boolean preventReciprocal) {
+        this.size = size;
+        this.offsets = offsets;
+        this.forbiddenReceivers = forbiddenReceivers;
+        this.preventReciprocal = preventReciprocal;
+    }
+
+    public static Builder builder(int size) {
+        return new Builder(size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isPreventReciprocal() {
+        return preventReciprocal;
+    }
+
+    /**
+     * Check if there are any rules beyond "no one gives to themselves"
+     */
+    public boolean isUnconstrained() {
+        return forbiddenReceivers.length == 0 && !preventReciprocal;
+    }
+
+    /**
+     * Check if any exclusion rules are present
+     */
+    public boolean hasForbiddenPairs() {
+        return forbiddenReceivers.length > 0;
+    }
+
+    /**
+     * Check if giver may not give to receiver
+     * Self-assignment is always forbidden
+     */
+    public boolean isForbidden(int giver, int receiver) {
+        if (giver == receiver) {
+            return true;
+        }
+        return Arrays.binarySearch(forbiddenReceivers, offsets[giver], offsets[giver + 1], receiver) >= 0;
+    }
+
+    public static final class Builder {
+
+        private final int size;
+        private long[] pairs = new long[16];
+        private int pairCount;
+        private boolean preventReciprocal;
+
+        private Builder(int size) {
+            this.size = size;
+        }
+
+        /**
+         * Forbid giver from giving to receiver
+         */
+        public Builder forbid(int giver, int receiver) {
+            if (giver < 0 || giver >= size || receiver < 0 || receiver >= size) {
+                throw new IndexOutOfBoundsException("Participant index out of range");
+            }
+            if (giver == receiver) {
+                return this;
+            }
+            if (pairCount == pairs.length) {
+                pairs = Arrays.copyOf(pairs, pairs.length * 2);
+            }
+            pairs[pairCount++] = ((long) giver << 32) | receiver;
+            return this;
+        }
+
+        /**
+         * Forbid both participants from giving to each other
+         */
+        public Builder forbidMutual(int first, int second) {
+            forbid(first, second);
+            return forbid(second, first);
+        }
+
+        /**
+         * Forbid reciprocal pairs (A gives to B and B gives to A)
+         */
+        public Builder preventReciprocal(boolean preventReciprocal) {
+            this.preventReciprocal = preventReciprocal;
+            return this;
+        }
+
+        public DrawConstraints build() {
+            long[] sorted = Arrays.copyOf(pairs, pairCount);
+            Arrays.sort(sorted);
+
+            int[] offsets = new int[size + 1];
+            int[] receivers = new int[sorted.length];
+            int count = 0;
+            long previous = -1;
+            for (long pair : sorted) {
+                if (pair == previous) {
+                    continue;
+                }
+                previous = pair;
+                offsets[(int) (pair >>> 32) + 1]++;
+                receivers[count++] = (int) pair;
+            }
+            for (int i = 0; i < size; i++) {
+                offsets[i + 1] += offsets[i];
+            }
+
+            return new DrawConstraints(size, offsets, Arrays.copyOf(receivers, count), preventReciprocal);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.secretsanta.backend.service.draw;
+
+import com.secretsanta.backend.model.DrawStrategyType;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A draw algorithm over participant indexes
+ * Implementations are Spring beans and are picked up by DrawStrategyRegistry
+ */
+public interface DrawStrategy {
+
+    DrawStrategyType getType();
+
+    /**
+     * Check if this strategy can honour the given constraints
+     */
+    boolean supports(DrawConstraints constraints);
+
+    /**
+     * Compute a draw
+     * Returns an array where result[giver] is the receiver index
+     *
+     * @throws InfeasibleDrawException if no valid assignment exists
+     */
+    int[] draw(DrawConstraints constraints, RandomGenerator random);
+}
@@ -0,0 +1,44 @@
+package com.secretsanta.backend.service.draw;
+
+/**
+ * Thrown when no assignment satisfies the draw constraints
+ * Carries the participant indexes that make the draw impossible
+ */
+public class InfeasibleDrawException extends RuntimeException {
+
+    private final int[] givers;
+    private final int[] receivers;
+    private final boolean conclusive;
+
+    public InfeasibleDrawException(String message, int[] givers, int[] receivers) {
+        this(message, givers, receivers, true);
+    }
+
+    public InfeasibleDrawException(String message, int[] givers, int[] receivers, boolean conclusive) {
+        super(message);
+        this.givers = givers;
+        this.receivers = receivers;
+        this.conclusive = conclusive;
+    }
+
+    /**
+     * False when the search gave up before proving that no assignment exists
+     */
+    public boolean isConclusive() {
+        return conclusive;
+    }
+
+    /**
+     * Givers that cannot all be given a recipient
+     */
+    public int[] getGivers() {
+        return givers;
+    }
+
+    /**
+     * The only recipients available to those givers
+     */
+    public int[] getReceivers() {
+        return receivers;
+    }
+}
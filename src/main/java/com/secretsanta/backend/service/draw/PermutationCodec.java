@@ -0,0 +1,151 @@
+package com.secretsanta.backend.service.draw;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.LongPredicate;
+
+/**
+ * Binary encoding for compactly stored draws
+ *
+ * Participant IDs are written in draw order as a count followed by
+ * zig-zag delta varints, so sequential IDs take one byte each.
+ * Receiver indexes are written with a one-byte width header followed by
+ * fixed-width big-endian values, so a single entry can be read without
+ * decoding the whole array.
+ */
+public final class PermutationCodec {
+
+    private PermutationCodec() {
+    }
+
+    /**
+     * Encode participant IDs in draw order
+     */
+    public static byte[] encodeIds(long[] ids) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(ids.length + 8);
+        writeVarint(out, ids.length);
+        long previous = 0;
+        for (long id : ids) {
+            long delta = id - previous;
+            writeVarint(out, (delta << 1) ^ (delta >> 63));
+            previous = id;
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode participant IDs in draw order
+     */
+    public static long[] decodeIds(byte[] data) {
+        int[] position = {0};
+        int count = (int) readVarint(data, position);
+        long[] ids = new long[count];
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long zigzag = readVarint(data, position);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            ids[i] = previous;
+        }
+        return ids;
+    }
+
+    /**
+     * Visit participant IDs in draw order without materializing them
+     * Stops early once the visitor returns false
+     */
+    public static void scanIds(byte[] data, LongPredicate visitor) {
+        int[] position = {0};
+        int count = (int) readVarint(data, position);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long zigzag = readVarint(data, position);
+            previous += (zigzag >>> 1) ^ -(zigzag & 1);
+            if (!visitor.test(previous)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Encode receiver indexes (result[giver] = receiver) using the narrowest width
+     */
+    public static byte[] encodeIndexes(int[] indexes) {
+        int width = widthFor(indexes.length);
+        byte[] data = new byte[1 + indexes.length * width];
+        data[0] = (byte) width;
+        for (int i = 0; i < indexes.length; i++) {
+            int offset = 1 + i * width;
+            int value = indexes[i];
+            for (int b = width - 1; b >= 0; b--) {
+                data[offset + b] = (byte) value;
+                value >>>= 8;
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Number of entries in an encoded index array
+     */
+    public static int indexCount(byte[] data) {
+        return (data.length - 1) / data[0];
+    }
+
+    /**
+     * Read a single receiver index without decoding the whole array
+     */
+    public static int indexAt(byte[] data, int position) {
+        int width = data[0];
+        int offset = 1 + position * width;
+        int value = 0;
+        for (int b = 0; b < width; b++) {
+            value = (value << 8) | (data[offset + b] & 0xFF);
+        }
+        return value;
+    }
+
+    /**
+     * Decode all receiver indexes
+     */
+    public static int[] decodeIndexes(byte[] data) {
+        int[] indexes = new int[indexCount(data)];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = indexAt(data, i);
+        }
+        return indexes;
+    }
+
+    private static int widthFor(int size) {
+        int maxIndex = Math.max(size - 1, 0);
+        if (maxIndex < (1 << 8)) {
+            return 1;
+        }
+        if (maxIndex < (1 << 16)) {
+            return 2;
+        }
+        if (maxIndex < (1 << 24)) {
+            return 3;
+        }
+        return 4;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = data[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+}
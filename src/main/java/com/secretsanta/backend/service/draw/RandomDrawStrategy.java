@@ -0,0 +1,29 @@
+package com.secretsanta.backend.service.draw;
+
+import com.secretsanta.backend.model.DrawStrategyType;
+import org.springframework.stereotype.Component;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Uniform random derangement
+ * Fastest strategy, only usable without exclusion rules
+ */
+@Component
+public class RandomDrawStrategy implements DrawStrategy {
+
+    @Override
+    public DrawStrategyType getType() {
+        return DrawStrategyType.RANDOM;
+    }
+
+    @Override
+    public boolean supports(DrawConstraints constraints) {
+        return constraints.isUnconstrained();
+    }
+
+    @Override
+    public int[] draw(DrawConstraints constraints, RandomGenerator random) {
+        return Derangements.derange(constraints.size(), random);
+    }
+}
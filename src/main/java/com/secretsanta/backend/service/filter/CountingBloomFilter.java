@@ -0,0 +1,158 @@
+package com.secretsanta.backend.service.filter;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe counting Bloom filter over UUIDs
+ * Each slot is a 4-bit counter packed sixteen to a long, so elements can be removed again.
+ * A saturated counter (15) is never decremented, which can only cause extra false positives.
+ * Never returns a false negative as long as every removed element was added before.
+ */
+public final class CountingBloomFilter {
+
+    private static final int COUNTER_BITS = 4;
+    private static final int COUNTERS_PER_WORD = Long.SIZE / COUNTER_BITS;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long MAX_COUNT = COUNTER_MASK;
+
+    private static final SecureRandom SEED_SOURCE = new SecureRandom();
+
+    private final AtomicLongArray words;
+    private final int counterCount;
+    private final int hashCount;
+    private final long seed;
+    private final AtomicLong nonZeroCounters = new AtomicLong();
+
+    private CountingBloomFilter(int counterCount, int hashCount) {
+        this.counterCount = counterCount;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray((counterCount + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        // Random per filter, so probes that collide cannot be precomputed
+        this.seed = SEED_SOURCE.nextLong();
+    }
+
+    /**
+     * Create a filter sized for the expected number of elements and false-positive rate
+     */
+    public static CountingBloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(expectedInsertions, 1);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int counters = (int) Math.min(Math.max(m, COUNTERS_PER_WORD), Integer.MAX_VALUE - COUNTERS_PER_WORD);
+        int k = Math.max(1, (int) Math.round((double) counters / n * ln2));
+        return new CountingBloomFilter(counters, k);
+    }
+
+    public void add(UUID value) {
+        long h1 = hash1(value);
+        long h2 = hash2(value, h1);
+        for (int i = 0; i < hashCount; i++) {
+            increment(index(h1, h2, i));
+        }
+    }
+
+    public void remove(UUID value) {
+        long h1 = hash1(value);
+        long h2 = hash2(value, h1);
+        for (int i = 0; i < hashCount; i++) {
+            decrement(index(h1, h2, i));
+        }
+    }
+
+    /**
+     * False means the value was definitely never added (or has been removed)
+     */
+    public boolean mightContain(UUID value) {
+        long h1 = hash1(value);
+        long h2 = hash2(value, h1);
+        for (int i = 0; i < hashCount; i++) {
+            if (counterAt(index(h1, h2, i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Probability that an absent value passes, estimated from the current fill ratio
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) nonZeroCounters.get() / counterCount, hashCount);
+    }
+
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private void increment(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+        while (true) {
+            long current = words.get(word);
+            long count = (current >>> shift) & COUNTER_MASK;
+            if (count == MAX_COUNT) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current + (1L << shift))) {
+                if (count == 0) {
+                    nonZeroCounters.incrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    private void decrement(int index) {
+        int word = index / COUNTERS_PER_WORD;
+        int shift = (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+        while (true) {
+            long current = words.get(word);
+            long count = (current >>> shift) & COUNTER_MASK;
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current - (1L << shift))) {
+                if (count == 1) {
+                    nonZeroCounters.decrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+
+    private long counterAt(int index) {
+        int shift = (index % COUNTERS_PER_WORD) * COUNTER_BITS;
+        return (words.get(index / COUNTERS_PER_WORD) >>> shift) & COUNTER_MASK;
+    }
+
+    /**
+     * Double hashing: probe i is h1 + i * h2, see Kirsch and Mitzenmacher
+     */
+    private int index(long h1, long h2, int i) {
+        return (int) Math.floorMod(h1 + i * h2, (long) counterCount);
+    }
+
+    private long hash1(UUID value) {
+        return mix(value.getMostSignificantBits() ^ seed);
+    }
+
+    private long hash2(UUID value, long h1) {
+        // Never zero, so the probes do not all land on the same counter
+        return mix(value.getLeastSignificantBits() ^ h1) | 1;
+    }
+
+    /**
+     * 64-bit finalizer from MurmurHash3
+     */
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb93fe53a87e5L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
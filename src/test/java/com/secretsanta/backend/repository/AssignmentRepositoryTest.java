@@ -0,0 +1,109 @@
+package com.secretsanta.backend.repository;
+
+import com.secretsanta.backend.model.Admin;
+import com.secretsanta.backend.model.Assignment;
+import com.secretsanta.backend.model.Event;
+import com.secretsanta.backend.model.Participant;
+import com.secretsanta.backend.repository.projection.AssignmentRevealView;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class AssignmentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AssignmentRepository assignmentRepository;
+
+    private Statistics statistics;
+    private Event event;
+    private Participant giver;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        Admin admin = entityManager.persist(Admin.builder()
+                .name("Admin")
+                .email("admin@example.com")
+                .password("secret")
+                .build());
+        event = entityManager.persist(Event.builder()
+                .name("Office party")
+                .description("Bring snacks")
+                .drawDate(LocalDate.of(2030, 12, 20))
+                .budget(new BigDecimal("25.00"))
+                .admin(admin)
+                .build());
+        giver = entityManager.persist(Participant.builder()
+                .name("Alice")
+                .email("alice@example.com")
+                .event(event)
+                .build());
+        Participant receiver = entityManager.persist(Participant.builder()
+                .name("Bob")
+                .email("bob@example.com")
+                .event(event)
+                .build());
+        Participant previousReceiver = entityManager.persist(Participant.builder()
+                .name("Carol")
+                .email("carol@example.com")
+                .event(event)
+                .build());
+
+        // An older draw generation that must not be returned
+        entityManager.persist(Assignment.builder()
+                .event(event).giver(giver).receiver(previousReceiver).generation(1)
+                .build());
+        entityManager.persist(Assignment.builder()
+                .event(event).giver(giver).receiver(receiver).generation(2)
+                .build());
+        event.setLatestDrawGeneration(2);
+        event.setCurrentDrawGeneration(2);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    void findRevealByGiverAccessCodeUsesSingleStatement() {
+        Optional<AssignmentRevealView> view = assignmentRepository.findRevealByGiverAccessCode(giver.getAccessCode());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(view).hasValueSatisfying(reveal -> {
+            assertThat(reveal.eventId()).isEqualTo(event.getId());
+            assertThat(reveal.giverName()).isEqualTo("Alice");
+            assertThat(reveal.receiverName()).isEqualTo("Bob");
+            assertThat(reveal.receiverEmail()).isEqualTo("bob@example.com");
+            assertThat(reveal.eventName()).isEqualTo("Office party");
+            assertThat(reveal.drawDate()).isEqualTo(LocalDate.of(2030, 12, 20));
+            assertThat(reveal.budget()).isEqualByComparingTo("25.00");
+            assertThat(reveal.eventDescription()).isEqualTo("Bring snacks");
+        });
+    }
+
+    @Test
+    void findRevealByGiverAccessCodeReturnsEmptyForUnknownCode() {
+        assertThat(assignmentRepository.findRevealByGiverAccessCode(UUID.randomUUID())).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.secretsanta.backend.service;
+
+import com.secretsanta.backend.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventRevisionServiceTest {
+
+    private static final Long EVENT_ID = 7L;
+    private static final Long ADMIN_ID = 3L;
+
+    private EventRepository eventRepository;
+    private EventRevisionService eventRevisionService;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        eventRevisionService = new EventRevisionService();
+        ReflectionTestUtils.setField(eventRevisionService, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(eventRevisionService, "maxSize", 100L);
+        ReflectionTestUtils.setField(eventRevisionService, "ttlMs", 600_000L);
+        eventRevisionService.buildCache();
+    }
+
+    @Test
+    void findRevisionServesRepeatLookupsFromCache() {
+        when(eventRepository.findRevisionByIdAndAdminId(EVENT_ID, ADMIN_ID)).thenReturn(Optional.of(1L));
+
+        assertThat(eventRevisionService.findRevision(EVENT_ID, ADMIN_ID)).contains(1L);
+        assertThat(eventRevisionService.findRevision(EVENT_ID, ADMIN_ID)).contains(1L);
+
+        verify(eventRepository, times(1)).findRevisionByIdAndAdminId(EVENT_ID, ADMIN_ID);
+    }
+
+    @Test
+    void findRevisionDoesNotKeepRevisionReadBeforeConcurrentBump() {
+        // The event is bumped after the revision was read but before it is cached
+        when(eventRepository.findRevisionByIdAndAdminId(EVENT_ID, ADMIN_ID))
+                .thenAnswer(invocation -> {
+                    eventRevisionService.evictAfterCommit(EVENT_ID);
+                    return Optional.of(1L);
+                })
+                .thenReturn(Optional.of(2L));
+
+        assertThat(eventRevisionService.findRevision(EVENT_ID, ADMIN_ID)).contains(1L);
+        assertThat(eventRevisionService.findRevision(EVENT_ID, ADMIN_ID)).contains(2L);
+
+        verify(eventRepository, times(2)).findRevisionByIdAndAdminId(EVENT_ID, ADMIN_ID);
+    }
+
+    @Test
+    void findRevisionHidesEventsOfOtherAdmins() {
+        when(eventRepository.findRevisionByIdAndAdminId(EVENT_ID, ADMIN_ID)).thenReturn(Optional.of(1L));
+        eventRevisionService.findRevision(EVENT_ID, ADMIN_ID);
+
+        assertThat(eventRevisionService.findRevision(EVENT_ID, 99L)).isEmpty();
+    }
+}
@@ -0,0 +1,69 @@
+package com.secretsanta.backend.service.draw;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DerangementsTest {
+
+    private static final int SEEDS = 200;
+
+    @Test
+    void derangeReturnsPermutationWithoutFixedPoints() {
+        for (int n = 2; n <= 50; n++) {
+            for (long seed = 0; seed < SEEDS; seed++) {
+                int[] result = Derangements.derange(n, new SplittableRandom(seed));
+
+                boolean[] received = new boolean[n];
+                for (int giver = 0; giver < n; giver++) {
+                    assertThat(result[giver]).as("n=%d seed=%d giver=%d", n, seed, giver).isNotEqualTo(giver);
+                    assertThat(received[result[giver]]).as("n=%d seed=%d duplicate receiver", n, seed).isFalse();
+                    received[result[giver]] = true;
+                }
+            }
+        }
+    }
+
+    @Test
+    void derangeIsUniformForFourParticipants() {
+        // D(4) = 9; 0.999 quantile of chi-square with 8 degrees of freedom
+        assertUniform(4, 9, 26.12);
+    }
+
+    @Test
+    void derangeIsUniformForFiveParticipants() {
+        // D(5) = 44; 0.999 quantile of chi-square with 43 degrees of freedom
+        assertUniform(5, 44, 77.42);
+    }
+
+    @Test
+    void derangeRejectsFewerThanTwoParticipants() {
+        assertThatThrownBy(() -> Derangements.derange(1, new SplittableRandom(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertUniform(int n, int derangementCount, double criticalValue) {
+        int samplesPerOutcome = 2_000;
+        int samples = derangementCount * samplesPerOutcome;
+        SplittableRandom random = new SplittableRandom(42);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < samples; i++) {
+            counts.merge(Arrays.toString(Derangements.derange(n, random)), 1, Integer::sum);
+        }
+
+        assertThat(counts).hasSize(derangementCount);
+        double chiSquare = 0;
+        for (int observed : counts.values()) {
+            double difference = observed - samplesPerOutcome;
+            chiSquare += difference * difference / samplesPerOutcome;
+        }
+        assertThat(chiSquare).isLessThan(criticalValue);
+    }
+}